@@ -0,0 +1,81 @@
+package community.ddv.domain.board.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 금칙어 가리기 : Aho-Corasick 오토마톤(ForbiddenWordMatcher) vs 기존 방식(금칙어마다 contains + replace)
+ * 금칙어 1천/1만 개, 본문 1만 글자
+ * 실행 : ./gradlew jmh -Pjmh.includes=ForbiddenWordMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ForbiddenWordMatcherBenchmark {
+
+  private static final String ALPHABET = "가나다라마바사아자차카타파하";
+  private static final int BODY_LENGTH = 10_000;
+
+  @Param({"1000", "10000"})
+  private int wordCount;
+
+  private List<String> words;
+  private ForbiddenWordMatcher matcher;
+  private String body;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    Set<String> unique = new LinkedHashSet<>();
+    while (unique.size() < wordCount) {
+      unique.add(randomText(random, 3 + random.nextInt(4)));
+    }
+    words = new ArrayList<>(unique);
+    matcher = ForbiddenWordMatcher.compile(words);
+
+    // 본문 사이사이에 금칙어를 섞음 (약 50글자마다 하나)
+    StringBuilder sb = new StringBuilder(BODY_LENGTH);
+    while (sb.length() < BODY_LENGTH) {
+      sb.append(randomText(random, 45)).append(' ');
+      sb.append(words.get(random.nextInt(words.size())));
+    }
+    body = sb.substring(0, BODY_LENGTH);
+  }
+
+  @Benchmark
+  public String automaton() {
+    return matcher.mask(body);
+  }
+
+  // 오토마톤 도입 전 forbiddenWordsFilter.filterForbiddenWords 방식
+  @Benchmark
+  public String containsReplaceLoop() {
+    String input = body;
+    for (String word : words) {
+      if (input.contains(word)) {
+        input = input.replace(word, "*".repeat(word.length()));
+      }
+    }
+    return input;
+  }
+
+  private static String randomText(Random random, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,80 @@
+package community.ddv.global.component;
+
+import community.ddv.domain.user.constant.Role;
+import community.ddv.global.util.ExpiringLruCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인증 필터 체인(JwtFilter → SseAuthenticationFilter) : 검증 결과 캐시 적중 vs 매 요청 서명 검증
+ * 요청마다 새 request 를 만들어 request attribute 재사용 없이 캐시만의 효과를 비교
+ * (블랙리스트는 비어 있고, UserDetailsService 는 고정된 사용자를 반환)
+ * 실행 : ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+  private static final String EMAIL = "bench@test.com";
+  private static final FilterChain END_OF_CHAIN = (request, response) -> { };
+
+  private JwtProvider jwtProvider;
+  private ExpiringLruCache<?, ?> verifiedTokenCache;
+  private JwtFilter jwtFilter;
+  private SseAuthenticationFilter sseAuthenticationFilter;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtProvider = new JwtProvider();
+    ReflectionTestUtils.setField(jwtProvider, "secretKey", "benchmark-secret-key-for-jwt-0123456789");
+    jwtProvider.init();
+    verifiedTokenCache = (ExpiringLruCache<?, ?>) ReflectionTestUtils.getField(jwtProvider, "verifiedTokenCache");
+
+    UserDetails user = User.withUsername(EMAIL).password("pw").roles("USER").build();
+    TokenBlacklist tokenBlacklist = new TokenBlacklist(null, null); // init 전이라 filter 가 비어 있어 Redis 조회 없음
+    jwtFilter = new JwtFilter(jwtProvider, username -> user, tokenBlacklist);
+    sseAuthenticationFilter = new SseAuthenticationFilter(jwtProvider);
+    token = jwtProvider.generateAccessToken(EMAIL, Role.USER);
+  }
+
+  @Benchmark
+  public int withCache() throws ServletException, IOException {
+    return runChain();
+  }
+
+  // 캐시를 비워 매 요청 서명 검증 + claims 파싱 (캐시 도입 전과 같은 경로)
+  @Benchmark
+  public int withoutCache() throws ServletException, IOException {
+    verifiedTokenCache.clear();
+    return runChain();
+  }
+
+  private int runChain() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(JwtProvider.TOKEN_HEADER, JwtProvider.TOKEN_PREFIX + token);
+    request.addHeader("Accept", "text/event-stream");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    jwtFilter.doFilter(request, response,
+        (req, res) -> sseAuthenticationFilter.doFilter(req, res, END_OF_CHAIN));
+    SecurityContextHolder.clearContext();
+    return response.getStatus();
+  }
+}
@@ -5,10 +5,12 @@ import community.ddv.domain.board.dto.ReviewIdResponseDto;
 import community.ddv.domain.board.dto.ReviewResponseDTO;
 import community.ddv.domain.board.service.LikeService;
 import community.ddv.domain.board.service.ReviewService;
+import community.ddv.global.response.CursorPageResponse;
 import community.ddv.global.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -85,6 +87,23 @@ public class ReviewController {
     return ResponseEntity.ok(new PageResponse<>(reviews));
   }
 
+  @Operation(summary = "특정 영화에 대한 리뷰 커서 조회",
+      description = "sort 는 createdAt(최신순, 기본) 또는 likeCount(좋아요순). 다음 페이지는 응답의 nextCreatedAt, nextId (좋아요순이면 nextLikeCount 도) 를 그대로 전달")
+  @GetMapping("/movie/{tmdbId}/cursor")
+  public ResponseEntity<CursorPageResponse<ReviewResponseDTO>> getReviewsByMovieIdWithCursor(
+      @PathVariable Long tmdbId,
+      @RequestParam(value = "certifiedFilter", required = false, defaultValue = "false") Boolean certifiedFilter,
+      @RequestParam(defaultValue = "createdAt") String sort,
+      @RequestParam(required = false) Integer likeCount,
+      @RequestParam(required = false) LocalDateTime createdAt,
+      @RequestParam(required = false) Long reviewId,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    CursorPageResponse<ReviewResponseDTO> response = reviewService.getReviewsByMovieIdWithCursor(
+        tmdbId, certifiedFilter, "likeCount".equals(sort), likeCount, createdAt, reviewId, size);
+    return ResponseEntity.ok(response);
+  }
+
   @Operation(summary = "특정 리뷰 조회")
   @GetMapping("/{reviewId}")
   public ResponseEntity<ReviewResponseDTO> getReviewById(
@@ -101,6 +120,16 @@ public class ReviewController {
     return ResponseEntity.ok(response);
   }
 
+  @Operation(summary = "최신 리뷰 커서 조회", description = "디폴트 사이즈는 9입니다. 전체 리뷰 수를 세지 않습니다.")
+  @GetMapping("/latest/cursor")
+  public ResponseEntity<CursorPageResponse<ReviewResponseDTO>> getLatestReviewsWithCursor(
+      @RequestParam(required = false) LocalDateTime createdAt,
+      @RequestParam(required = false) Long reviewId,
+      @RequestParam(defaultValue = "9") int size
+  ) {
+    return ResponseEntity.ok(reviewService.getLatestReviewsWithCursor(createdAt, reviewId, size));
+  }
+
   @Operation(summary = "좋아요", description = "토글형식입니다. 두 번 누를 시 좋아요 취소")
   @PostMapping("/like/{reviewId}")
   public ResponseEntity<Void> toggleLike(
@@ -1,5 +1,7 @@
 package community.ddv.domain.board.dto;
 
+import community.ddv.domain.board.entity.RatingHistogram;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,4 +15,14 @@ import lombok.NoArgsConstructor;
 public class ReviewRatingDTO {
   private Double ratingAverage;
   private Map<Double, Integer> ratingDistribution;
+
+  // 집계값으로부터 평균(소수점 첫째 자리 반올림)과 0.5 - 5.0 순서의 분포 생성
+  public static ReviewRatingDTO from(RatingHistogram histogram) {
+    Map<Double, Integer> ratingDistribution = new LinkedHashMap<>();
+    for (int i = 0; i < RatingHistogram.BUCKET_SIZE; i++) {
+      ratingDistribution.put((i + 1) * 0.5, (int) histogram.getBucketCount(i));
+    }
+    double roundedRatingAverage = Math.round(histogram.getRatingAverage() * 10.0) / 10.0;
+    return new ReviewRatingDTO(roundedRatingAverage, ratingDistribution);
+  }
 }
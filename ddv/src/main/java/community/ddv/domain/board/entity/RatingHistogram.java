@@ -0,0 +1,89 @@
+package community.ddv.domain.board.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 별점 개수, 합계, 0.5 단위 10개 구간별 개수를 보관하는 집계값
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class RatingHistogram {
+
+  public static final int BUCKET_SIZE = 10;
+
+  private long ratingCount;
+  private double ratingSum;
+
+  private long rating05;
+  private long rating10;
+  private long rating15;
+  private long rating20;
+  private long rating25;
+  private long rating30;
+  private long rating35;
+  private long rating40;
+  private long rating45;
+  private long rating50;
+
+  public void addRating(Double rating) {
+    apply(rating, 1);
+  }
+
+  public void removeRating(Double rating) {
+    apply(rating, -1);
+  }
+
+  // 재집계 시 같은 별점을 여러 개 한 번에 반영
+  public void apply(Double rating, long delta) {
+    if (rating == null) {
+      return;
+    }
+    int index = bucketIndex(rating);
+    if (index < 0) {
+      return;
+    }
+    ratingCount = Math.max(0, ratingCount + delta);
+    ratingSum = ratingCount == 0 ? 0.0 : ratingSum + rating * delta;
+
+    switch (index) {
+      case 0 -> rating05 = Math.max(0, rating05 + delta);
+      case 1 -> rating10 = Math.max(0, rating10 + delta);
+      case 2 -> rating15 = Math.max(0, rating15 + delta);
+      case 3 -> rating20 = Math.max(0, rating20 + delta);
+      case 4 -> rating25 = Math.max(0, rating25 + delta);
+      case 5 -> rating30 = Math.max(0, rating30 + delta);
+      case 6 -> rating35 = Math.max(0, rating35 + delta);
+      case 7 -> rating40 = Math.max(0, rating40 + delta);
+      case 8 -> rating45 = Math.max(0, rating45 + delta);
+      case 9 -> rating50 = Math.max(0, rating50 + delta);
+      default -> { }
+    }
+  }
+
+  // 0.5 -> 0, 1.0 -> 1, ... 5.0 -> 9 (범위를 벗어나면 -1)
+  public static int bucketIndex(double rating) {
+    int index = (int) Math.round(rating * 2) - 1;
+    return (index >= 0 && index < BUCKET_SIZE) ? index : -1;
+  }
+
+  public long getBucketCount(int index) {
+    return switch (index) {
+      case 0 -> rating05;
+      case 1 -> rating10;
+      case 2 -> rating15;
+      case 3 -> rating20;
+      case 4 -> rating25;
+      case 5 -> rating30;
+      case 6 -> rating35;
+      case 7 -> rating40;
+      case 8 -> rating45;
+      case 9 -> rating50;
+      default -> 0;
+    };
+  }
+
+  public double getRatingAverage() {
+    return ratingCount == 0 ? 0.0 : ratingSum / ratingCount;
+  }
+}
@@ -10,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,12 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_review_created_at", columnList = "createdAt, id"),
+    @Index(name = "idx_review_movie_created_at", columnList = "movie_id, createdAt, id"),
+    @Index(name = "idx_review_movie_like_count", columnList = "movie_id, likeCount, createdAt, id"),
+    @Index(name = "idx_review_user_created_at", columnList = "user_id, createdAt, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -59,16 +67,11 @@ public class Review {
   @LastModifiedDate
   private LocalDateTime updatedAt;
 
-  @Column(nullable = false)
+  // 좋아요 수 - Redis(ReviewLikeCounter)에서 세고 주기적으로 반영 (엔티티에서 직접 올리고 내리지 않음)
+  // 리뷰 수정 등으로 flush 될 때 읽어 둔 옛 값으로 덮어쓰지 않도록 JPA UPDATE 에서 제외
+  @Column(nullable = false, updatable = false)
   private Integer likeCount;
 
-  public void increaseLikeCount() {
-    likeCount = (likeCount == null) ? 0 : likeCount + 1;
-  }
-  public void decreaseLikeCount() {
-    likeCount = (likeCount == null || likeCount <= 0) ? 0 : likeCount - 1;
-  }
-
   @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   @Builder.Default
   private List<Like> likes = new ArrayList<>();
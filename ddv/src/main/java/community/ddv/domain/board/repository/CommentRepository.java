@@ -3,6 +3,7 @@ package community.ddv.domain.board.repository;
 import community.ddv.domain.board.entity.Comment;
 import community.ddv.domain.board.entity.Review;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,4 +39,39 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
   // 특정 사용자가 작성한 댓글 조회
   Page<Comment> findByUser_Id(Long userId, Pageable pageable);
+
+  // 주어진 리뷰들의 댓글 수를 한 번에 조회 (reviewId, count)
+  @Query("""
+      SELECT c.review.id, COUNT(c)
+      FROM Comment c
+      WHERE c.review.id IN :reviewIds
+      GROUP BY c.review.id
+      """)
+  List<Object[]> countByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+  // 주어진 사용자들의 댓글 수 (사용자 활동 집계 재계산용) - (userId, count)
+  @Query("SELECT c.user.id, COUNT(c) FROM Comment c WHERE c.user.id IN :userIds GROUP BY c.user.id")
+  List<Object[]> countByUserIds(@Param("userIds") Collection<Long> userIds);
+
+  // 댓글을 쓴 사용자 id (사용자 활동 집계 재계산 대상)
+  @Query("SELECT DISTINCT c.user.id FROM Comment c")
+  List<Long> findCommentAuthorIds();
+
+  // 특정 리뷰에 달린 댓글의 작성자별 개수 (리뷰 삭제 시 함께 지워지는 댓글 반영용) - (userId, count)
+  @Query("""
+      SELECT c.user.id, COUNT(c)
+      FROM Comment c
+      WHERE c.review.id = :reviewId
+      GROUP BY c.user.id
+      """)
+  List<Object[]> countByReviewIdGroupByUser(@Param("reviewId") Long reviewId);
+
+  // 특정 사용자의 리뷰들에 달린 댓글의 작성자별 개수 (회원 탈퇴 시 함께 지워지는 댓글 반영용) - (userId, count)
+  @Query("""
+      SELECT c.user.id, COUNT(c)
+      FROM Comment c
+      WHERE c.review.user.id = :reviewAuthorId
+      GROUP BY c.user.id
+      """)
+  List<Object[]> countOnReviewsOfUserGroupByUser(@Param("reviewAuthorId") Long reviewAuthorId);
 }
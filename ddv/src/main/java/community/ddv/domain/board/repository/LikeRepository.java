@@ -3,12 +3,34 @@ package community.ddv.domain.board.repository;
 import community.ddv.domain.board.entity.Like;
 import community.ddv.domain.board.entity.Review;
 import community.ddv.domain.user.entity.User;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
   boolean existsByReviewAndUser(Review review, User user);
-  void deleteByReviewAndUser(Review review, User user);
+  long deleteByReviewAndUser(Review review, User user); // 삭제된 행 수
+
+  // 특정 리뷰에 좋아요를 누른 사용자 id
+  @Query("SELECT l.user.id FROM Like l WHERE l.review.id = :reviewId")
+  List<Long> findUserIdsByReviewId(@Param("reviewId") Long reviewId);
+
+  // 특정 사용자가 좋아요를 누른 리뷰 id
+  @Query("SELECT l.review.id FROM Like l WHERE l.user.id = :userId")
+  List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
+  // 주어진 리뷰들 중 특정 사용자가 좋아요를 누른 리뷰 id 조회
+  @Query("""
+      SELECT l.review.id
+      FROM Like l
+      WHERE l.user.id = :userId
+        AND l.review.id IN :reviewIds
+      """)
+  Set<Long> findLikedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -3,6 +3,8 @@ package community.ddv.domain.board.repository;
 import community.ddv.domain.board.entity.Review;
 import community.ddv.domain.movie.entity.Movie;
 import community.ddv.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -19,8 +21,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
   Page<Review> findByMovie(Movie movie, Pageable pageable);
 
-  List<Review> findByMovie(Movie movie);
-
   Page<Review> findByUser_Id(Long userId, Pageable pageable);
 
   Page<Review> findByUser_IdAndCertifiedTrue(Long userId, Pageable pageable);
@@ -42,8 +42,103 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
   Optional<Review> findByUserAndMovie(User user, Movie movie);
 
-  @Query("select avg(r.rating) from Review r where r.movie = :movie")
-  Double findAverageRatingByMovie(@Param("movie") Movie movie);
+  // 커서 (createdAt, id) 이전의 최신 리뷰 조회 - idx_review_created_at
+  @Query("""
+          select r from Review r
+          join fetch r.user
+          join fetch r.movie
+          where r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)
+          order by r.createdAt desc, r.id desc
+      """)
+  List<Review> findLatestReviewsBeforeCursor(
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  // 커서 (createdAt, id) 이전의 영화별 리뷰 조회 - idx_review_movie_created_at
+  @Query("""
+          select r from Review r
+          join fetch r.user
+          where r.movie = :movie
+            and (:certifiedOnly = false or r.certified = true)
+            and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+          order by r.createdAt desc, r.id desc
+      """)
+  List<Review> findByMovieBeforeCursor(
+      @Param("movie") Movie movie,
+      @Param("certifiedOnly") boolean certifiedOnly,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  // 커서 (likeCount, createdAt, id) 이전의 영화별 리뷰 조회 (좋아요순) - idx_review_movie_like_count
+  @Query("""
+          select r from Review r
+          join fetch r.user
+          where r.movie = :movie
+            and (:certifiedOnly = false or r.certified = true)
+            and (r.likeCount < :likeCount
+              or (r.likeCount = :likeCount and r.createdAt < :createdAt)
+              or (r.likeCount = :likeCount and r.createdAt = :createdAt and r.id < :id))
+          order by r.likeCount desc, r.createdAt desc, r.id desc
+      """)
+  List<Review> findByMovieBeforeLikeCursor(
+      @Param("movie") Movie movie,
+      @Param("certifiedOnly") boolean certifiedOnly,
+      @Param("likeCount") int likeCount,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  // 커서 (createdAt, id) 이전의 사용자별 리뷰 조회 - idx_review_user_created_at
+  @Query("""
+          select r from Review r
+          join fetch r.user
+          join fetch r.movie
+          where r.user.id = :userId
+            and (:certifiedOnly = false or r.certified = true)
+            and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))
+          order by r.createdAt desc, r.id desc
+      """)
+  List<Review> findByUserBeforeCursor(
+      @Param("userId") Long userId,
+      @Param("certifiedOnly") boolean certifiedOnly,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  // 주어진 영화들의 별점별 리뷰 수 (별점 집계 재계산용) - (movieId, rating, count)
+  @Query("""
+          select r.movie.id, r.rating, count(r) from Review r
+          where r.movie.id in :movieIds and r.rating is not null
+          group by r.movie.id, r.rating
+      """)
+  List<Object[]> countRatingsByMovieIds(@Param("movieIds") Collection<Long> movieIds);
+
+  // 리뷰가 있는 영화 id (별점 집계 재계산 대상)
+  @Query("select distinct r.movie.id from Review r")
+  List<Long> findReviewedMovieIds();
+
+  // 특정 사용자가 쓴 리뷰의 영화별, 별점별 개수 (회원 탈퇴 시 별점 집계 반영용) - (movieId, rating, count)
+  @Query("""
+          select r.movie.id, r.rating, count(r) from Review r
+          where r.user.id = :userId and r.rating is not null
+          group by r.movie.id, r.rating
+          order by r.movie.id
+      """)
+  List<Object[]> countRatingsOfUserGroupByMovie(@Param("userId") Long userId);
+
+  // 주어진 사용자들의 별점별 리뷰 수 (사용자 활동 집계 재계산용) - (userId, rating, count)
+  @Query("""
+          select r.user.id, r.rating, count(r) from Review r
+          where r.user.id in :userIds
+          group by r.user.id, r.rating
+      """)
+  List<Object[]> countRatingsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+  // 리뷰를 쓴 사용자 id (사용자 활동 집계 재계산 대상)
+  @Query("select distinct r.user.id from Review r")
+  List<Long> findReviewAuthorIds();
 
   // 특정 리뷰 조회 (댓글도 함께 조회)
   @Query("""
@@ -12,9 +12,13 @@ import community.ddv.domain.user.entity.User;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.domain.board.repository.CommentRepository;
 import community.ddv.domain.user.service.UserService;
+import community.ddv.domain.user.service.UserStatsService;
 import community.ddv.global.response.CursorPageResponse;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -34,6 +38,8 @@ public class CommentService {
   private final CommentRepository commentRepository;
   private final ReviewRepository reviewRepository;
   private final NotificationService notificationService;
+  private final LatestReviewFeed latestReviewFeed;
+  private final UserStatsService userStatsService;
 
   @Transactional
   public CommentResponseDto createComment(Long reviewId, CommentRequestDto commentRequestDto) {
@@ -58,7 +64,9 @@ public class CommentService {
     Comment newComment = commentRepository.save(comment);
     log.info("[CREATE_COMMENT] 댓글 작성 완료 - commentId = {}, reviewId = {}, userId = {}", newComment.getId(), reviewId, user.getId());
 
-    notificationService.commentAdded(user.getId(), reviewId);
+    userStatsService.commentCreated(user.getId());
+    notificationService.commentAdded(user.getId(), review);
+    latestReviewFeed.commentCountChanged(review.getId(), 1);
 
     return convertToCommentResponse(newComment);
   }
@@ -127,6 +135,8 @@ public class CommentService {
     }
 
     commentRepository.delete(comment);
+    userStatsService.commentDeleted(user.getId());
+    latestReviewFeed.commentCountChanged(review.getId(), -1);
     log.info("[DELETE_COMMENT] 댓글 삭제 완료 - commentId = {}", commentId);
 
   }
@@ -184,8 +194,17 @@ public class CommentService {
     log.info("[COMMENT] userId = {}가 작성한 댓글 조회 요청", userId);
     userService.getLoginUser();
 
-    return commentRepository.findByUser_Id(userId, pageable)
-        .map(this::convertToCommentResponseByUser);
+    Page<Comment> comments = commentRepository.findByUser_Id(userId, pageable);
+
+    // 댓글이 달린 리뷰들을 한 번에 DTO로 변환 (같은 리뷰에 여러 댓글을 단 경우 한 번만 변환)
+    List<Review> reviews = comments.getContent().stream()
+        .map(Comment::getReview)
+        .distinct()
+        .toList();
+    Map<Long, ReviewResponseDTO> reviewDtos = reviewService.convertToReviewResponseDtos(reviews).stream()
+        .collect(Collectors.toMap(ReviewResponseDTO::getReviewId, Function.identity()));
+
+    return comments.map(comment -> convertToCommentResponseByUser(comment, reviewDtos.get(comment.getReview().getId())));
   }
 
 
@@ -202,9 +221,7 @@ public class CommentService {
         .build();
   }
 
-  private CommentResponseDto convertToCommentResponseByUser(Comment comment) {
-
-    ReviewResponseDTO reviewDto = reviewService.convertToReviewResponseDto(comment.getReview());
+  private CommentResponseDto convertToCommentResponseByUser(Comment comment, ReviewResponseDTO reviewDto) {
     return CommentResponseDto.builder()
         .id(comment.getId())
         .reviewId(comment.getReview().getId())
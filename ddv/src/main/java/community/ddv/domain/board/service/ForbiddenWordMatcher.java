@@ -0,0 +1,127 @@
+package community.ddv.domain.board.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+// 금칙어 목록으로 만든 Aho-Corasick 오토마톤 (생성 후 불변, 여러 스레드에서 동시에 사용 가능)
+// 입력 문자열을 한 번만 순회하면서 모든 금칙어 위치를 찾아 '*'로 가림
+public final class ForbiddenWordMatcher {
+
+  private static final ForbiddenWordMatcher EMPTY = new ForbiddenWordMatcher(new Node(), 0);
+
+  private final Node root;
+  private final int wordCount;
+
+  private ForbiddenWordMatcher(Node root, int wordCount) {
+    this.root = root;
+    this.wordCount = wordCount;
+  }
+
+  public static ForbiddenWordMatcher empty() {
+    return EMPTY;
+  }
+
+  public static ForbiddenWordMatcher compile(Collection<String> words) {
+    if (words == null || words.isEmpty()) {
+      return EMPTY;
+    }
+
+    // 1. 트라이 구성
+    Node root = new Node();
+    int wordCount = 0;
+    for (String word : words) {
+      if (word == null || word.isEmpty()) {
+        continue;
+      }
+      Node node = root;
+      for (int i = 0; i < word.length(); i++) {
+        node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+      }
+      node.matchLength = Math.max(node.matchLength, word.length());
+      wordCount++;
+    }
+
+    // 2. BFS로 실패 링크 연결, 실패 링크를 따라 끝나는 금칙어 중 가장 긴 길이를 전파
+    Queue<Node> queue = new ArrayDeque<>();
+    for (Node child : root.children.values()) {
+      child.fail = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      Node current = queue.poll();
+      for (Map.Entry<Character, Node> entry : current.children.entrySet()) {
+        char c = entry.getKey();
+        Node child = entry.getValue();
+
+        Node fail = current.fail;
+        while (fail != root && !fail.children.containsKey(c)) {
+          fail = fail.fail;
+        }
+        Node next = fail.children.get(c);
+        child.fail = (next != null && next != child) ? next : root;
+        child.matchLength = Math.max(child.matchLength, child.fail.matchLength);
+        queue.add(child);
+      }
+    }
+    return new ForbiddenWordMatcher(root, wordCount);
+  }
+
+  public int getWordCount() {
+    return wordCount;
+  }
+
+  public String mask(String input) {
+    if (input == null || input.isEmpty() || wordCount == 0) {
+      return input;
+    }
+
+    int length = input.length();
+    // matchStart[i] : i 위치에서 끝나는 금칙어 중 가장 긴 것의 시작 위치 (없으면 -1)
+    int[] matchStart = null;
+
+    Node node = root;
+    for (int i = 0; i < length; i++) {
+      char c = input.charAt(i);
+      while (node != root && !node.children.containsKey(c)) {
+        node = node.fail;
+      }
+      Node next = node.children.get(c);
+      node = (next != null) ? next : root;
+
+      if (node.matchLength > 0) {
+        if (matchStart == null) {
+          matchStart = new int[length];
+          Arrays.fill(matchStart, -1);
+        }
+        matchStart[i] = i - node.matchLength + 1;
+      }
+    }
+
+    if (matchStart == null) {
+      return input;
+    }
+
+    // 뒤에서부터 순회하며 현재 위치를 덮는 매칭 구간이 있는지 확인 (겹치는 금칙어도 모두 가림)
+    char[] chars = input.toCharArray();
+    int coveredFrom = Integer.MAX_VALUE;
+    for (int i = length - 1; i >= 0; i--) {
+      if (matchStart[i] >= 0) {
+        coveredFrom = Math.min(coveredFrom, matchStart[i]);
+      }
+      if (i >= coveredFrom) {
+        chars[i] = '*';
+      }
+    }
+    return new String(chars);
+  }
+
+  private static final class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+    private Node fail;
+    private int matchLength; // 이 노드에서 끝나는 가장 긴 금칙어 길이 (0이면 없음)
+  }
+}
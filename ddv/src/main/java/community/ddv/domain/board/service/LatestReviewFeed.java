@@ -0,0 +1,365 @@
+package community.ddv.domain.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import community.ddv.domain.board.dto.ReviewResponseDTO;
+import community.ddv.global.util.AfterCommit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 화면 최신 리뷰 피드 (Redis)
+ * - review:latest : 최근 CAPACITY 개 리뷰 id (score = 리뷰 id, 최신일수록 큼)
+ * - review:latest:entries : 리뷰 id → 미리 만들어 둔 ReviewResponseDTO JSON
+ * - review:latest:like-counts / comment-counts : 리뷰 id → 좋아요 수 / 댓글 수 (JSON 을 다시 쓰지 않고 HSET / HINCRBY 로 갱신)
+ * - review:latest:total : 전체 리뷰 수 (피드가 만들어져 있는지 표시도 겸함)
+ * - review:latest:version : 변경 횟수 (피드가 없어 반영하지 못한 변경도 셈)
+ * 쓰기는 모두 트랜잭션 커밋 후에 반영하고, 피드가 없으면(total 없음) 반영하지 않음 - 다음 rebuild 에서 DB 기준으로 다시 만듦
+ * rebuild 는 한 서버만 (review:latest:rebuild-lock) 임시 key 에 만든 뒤, DB 조회 전에 읽은 version 이 그대로일 때만 RENAME 으로 교체
+ * (조회 이후 커밋된 변경이 있으면 교체하지 않고 버림 - 다음 조회 때 다시 만듦)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LatestReviewFeed {
+
+  public static final int CAPACITY = 100;
+
+  private static final String FEED_KEY = "review:latest";
+  private static final String ENTRIES_KEY = "review:latest:entries";
+  private static final String LIKE_COUNTS_KEY = "review:latest:like-counts";
+  private static final String COMMENT_COUNTS_KEY = "review:latest:comment-counts";
+  private static final String TOTAL_KEY = "review:latest:total";
+  private static final String VERSION_KEY = "review:latest:version";
+  private static final String REBUILD_LOCK_KEY = "review:latest:rebuild-lock";
+  private static final List<String> ALL_KEYS =
+      List.of(FEED_KEY, ENTRIES_KEY, LIKE_COUNTS_KEY, COMMENT_COUNTS_KEY, TOTAL_KEY);
+  private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(30);
+  private static final Duration REBUILD_TEMP_TTL = Duration.ofMinutes(1); // 교체 전에 서버가 내려가도 남지 않도록
+
+  // 새 리뷰 추가 후 CAPACITY 를 넘는 오래된 리뷰 제거
+  private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[6])
+      if redis.call('EXISTS', KEYS[5]) == 0 then
+        return 0
+      end
+      redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+      redis.call('HSET', KEYS[3], ARGV[1], ARGV[3])
+      redis.call('HSET', KEYS[4], ARGV[1], ARGV[4])
+      redis.call('INCR', KEYS[5])
+      local overflow = redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[5]) + 1))
+      if #overflow > 0 then
+        redis.call('ZREMRANGEBYRANK', KEYS[1], 0, #overflow - 1)
+        for _, id in ipairs(overflow) do
+          redis.call('HDEL', KEYS[2], id)
+          redis.call('HDEL', KEYS[3], id)
+          redis.call('HDEL', KEYS[4], id)
+        end
+      end
+      return 1
+      """, Long.class);
+
+  private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[6])
+      if redis.call('EXISTS', KEYS[5]) == 0 then
+        return 0
+      end
+      redis.call('ZREM', KEYS[1], ARGV[1])
+      redis.call('HDEL', KEYS[2], ARGV[1])
+      redis.call('HDEL', KEYS[3], ARGV[1])
+      redis.call('HDEL', KEYS[4], ARGV[1])
+      redis.call('DECR', KEYS[5])
+      return 1
+      """, Long.class);
+
+  // 피드에 있는 리뷰만 갱신
+  private static final DefaultRedisScript<Long> REPLACE_ENTRY_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[2])
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      return 1
+      """, Long.class);
+
+  private static final DefaultRedisScript<Long> INCREMENT_COUNT_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[2])
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+        return 0
+      end
+      return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+      """, Long.class);
+
+  // 좋아요 수처럼 원본(Redis 좋아요 집합)에서 센 값을 그대로 덮어씀 (중복 요청이 있어도 어긋나지 않음)
+  private static final DefaultRedisScript<Long> SET_COUNT_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[2])
+      if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+        return 0
+      end
+      redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+      return 1
+      """, Long.class);
+
+  // 피드 버리기 (version 을 먼저 올려 진행 중인 rebuild 가 옛 내용으로 교체하지 않도록)
+  private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('INCR', KEYS[6])
+      return redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+      """, Long.class);
+
+  // KEYS[1..5] 임시 key, KEYS[6..10] 피드 key, KEYS[11] version
+  // version 이 DB 조회 전과 같을 때만 임시 key 로 교체 (total 을 마지막에 옮겨 피드 사용 가능 표시)
+  private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+      local version = redis.call('GET', KEYS[11]) or ''
+      if version ~= ARGV[1] then
+        redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+        return 0
+      end
+      for i = 1, 5 do
+        if redis.call('EXISTS', KEYS[i]) == 1 then
+          redis.call('RENAME', KEYS[i], KEYS[i + 5])
+          redis.call('PERSIST', KEYS[i + 5])
+        else
+          redis.call('DEL', KEYS[i + 5])
+        end
+      end
+      return 1
+      """, Long.class);
+
+  private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class FeedPage {
+    private final List<ReviewResponseDTO> content;
+    private final long totalElements;
+  }
+
+  /**
+   * 피드에서 최신순 [offset, offset + limit) 구간 조회
+   * @return 피드가 없거나 CAPACITY 를 벗어나는 구간이면 null (DB 에서 조회)
+   */
+  public FeedPage read(int offset, int limit) {
+    if (offset + limit > CAPACITY) {
+      return null;
+    }
+    String total = redisStringTemplate.opsForValue().get(TOTAL_KEY);
+    if (total == null) {
+      return null;
+    }
+
+    Set<String> ids = redisStringTemplate.opsForZSet().reverseRange(FEED_KEY, offset, offset + limit - 1L);
+    if (ids == null || ids.isEmpty()) {
+      return new FeedPage(List.of(), Long.parseLong(total));
+    }
+
+    List<Object> fields = new ArrayList<>(ids);
+    List<Object> entries = redisStringTemplate.opsForHash().multiGet(ENTRIES_KEY, fields);
+    List<Object> likeCounts = redisStringTemplate.opsForHash().multiGet(LIKE_COUNTS_KEY, fields);
+    List<Object> commentCounts = redisStringTemplate.opsForHash().multiGet(COMMENT_COUNTS_KEY, fields);
+
+    List<ReviewResponseDTO> content = new ArrayList<>(ids.size());
+    for (int i = 0; i < fields.size(); i++) {
+      if (entries.get(i) == null) {
+        return null; // 중간에 다시 만들어지는 중이면 DB 에서 조회
+      }
+      try {
+        // 저장할 때의 +09:00 오프셋을 UTC 로 바꾸지 않도록 ADJUST_DATES_TO_CONTEXT_TIME_ZONE 끄고 읽음
+        ReviewResponseDTO entry = objectMapper.readerFor(ReviewResponseDTO.class)
+            .without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+            .readValue((String) entries.get(i));
+        content.add(entry.toBuilder()
+            .likeCount(parseCount(likeCounts.get(i)))
+            .commentCount(parseCount(commentCounts.get(i)))
+            .build());
+      } catch (JsonProcessingException e) {
+        log.warn("[REVIEW_FEED] 피드 항목 역직렬화 실패 - reviewId = {}", fields.get(i), e);
+        return null;
+      }
+    }
+    return new FeedPage(content, Long.parseLong(total));
+  }
+
+  // 피드가 만들어져 있는지
+  public boolean exists() {
+    return Boolean.TRUE.equals(redisStringTemplate.hasKey(TOTAL_KEY));
+  }
+
+  /**
+   * DB 기준으로 피드 전체 교체 (다른 서버가 만드는 중이면 건너뜀)
+   * @param loader 최신순 리뷰 (최대 CAPACITY 개) 와 전체 리뷰 수를 DB 에서 조회
+   * @return 교체했으면 true, 건너뛰었거나 조회 중 변경이 있었거나 Redis 오류면 false
+   */
+  public boolean rebuild(Supplier<FeedPage> loader) {
+    String lockToken = UUID.randomUUID().toString();
+    String version;
+    try {
+      Boolean locked = redisStringTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, lockToken, REBUILD_LOCK_TTL);
+      if (!Boolean.TRUE.equals(locked)) {
+        log.debug("[REVIEW_FEED] 다른 서버에서 최신 리뷰 피드 생성 중");
+        return false;
+      }
+      // DB 조회보다 먼저 읽어야 조회 이후 커밋된 변경을 알아챌 수 있음
+      version = redisStringTemplate.opsForValue().get(VERSION_KEY);
+    } catch (RuntimeException e) {
+      log.warn("[REVIEW_FEED] 최신 리뷰 피드 생성 잠금 실패", e);
+      return false;
+    }
+
+    try {
+      return swapIn(loader.get(), version == null ? "" : version, lockToken);
+    } finally {
+      try {
+        redisStringTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), lockToken);
+      } catch (RuntimeException e) {
+        log.warn("[REVIEW_FEED] 최신 리뷰 피드 생성 잠금 해제 실패 - TTL 후 풀림", e);
+      }
+    }
+  }
+
+  // 임시 key 에 피드를 만든 뒤 version 이 그대로면 교체
+  private boolean swapIn(FeedPage feed, String version, String suffix) {
+    List<String> tempKeys = ALL_KEYS.stream().map(key -> key + ":tmp:" + suffix).toList();
+    try {
+      List<ReviewResponseDTO> reviews = feed.getContent();
+      if (!reviews.isEmpty()) {
+        Set<TypedTuple<String>> members = new HashSet<>();
+        Map<String, String> entries = new HashMap<>();
+        Map<String, String> likeCounts = new HashMap<>();
+        Map<String, String> commentCounts = new HashMap<>();
+        for (ReviewResponseDTO review : reviews) {
+          String id = String.valueOf(review.getReviewId());
+          members.add(TypedTuple.of(id, review.getReviewId().doubleValue()));
+          entries.put(id, toJson(review));
+          likeCounts.put(id, String.valueOf(review.getLikeCount()));
+          commentCounts.put(id, String.valueOf(review.getCommentCount()));
+        }
+        redisStringTemplate.opsForZSet().add(tempKeys.get(0), members);
+        redisStringTemplate.opsForHash().putAll(tempKeys.get(1), entries);
+        redisStringTemplate.opsForHash().putAll(tempKeys.get(2), likeCounts);
+        redisStringTemplate.opsForHash().putAll(tempKeys.get(3), commentCounts);
+        for (int i = 0; i < 4; i++) {
+          redisStringTemplate.expire(tempKeys.get(i), REBUILD_TEMP_TTL);
+        }
+      }
+      redisStringTemplate.opsForValue().set(tempKeys.get(4), String.valueOf(feed.getTotalElements()), REBUILD_TEMP_TTL);
+
+      List<String> keys = new ArrayList<>(tempKeys);
+      keys.addAll(ALL_KEYS);
+      keys.add(VERSION_KEY);
+      Long swapped = redisStringTemplate.execute(SWAP_SCRIPT, keys, version);
+      if (swapped == null || swapped == 0) {
+        log.info("[REVIEW_FEED] 생성 중 리뷰 변경이 있어 최신 리뷰 피드 교체 취소 - 다음 조회 때 다시 생성");
+        return false;
+      }
+    } catch (RuntimeException e) {
+      log.warn("[REVIEW_FEED] 최신 리뷰 피드 생성 실패", e);
+      try {
+        redisStringTemplate.delete(tempKeys);
+      } catch (RuntimeException ignored) {
+        // 임시 key 는 TTL 후 사라짐
+      }
+      return false;
+    }
+    log.info("[REVIEW_FEED] 최신 리뷰 피드 생성 - {}개 (전체 {}개)", feed.getContent().size(), feed.getTotalElements());
+    return true;
+  }
+
+  // 작성자 닉네임/프로필 변경, 탈퇴 등 여러 항목이 바뀌는 경우 피드를 버리고 다음 조회 때 다시 생성
+  public void invalidate() {
+    afterCommit(this::invalidateNow);
+  }
+
+  private void invalidateNow() {
+    List<String> keys = new ArrayList<>(ALL_KEYS);
+    keys.add(VERSION_KEY);
+    redisStringTemplate.execute(INVALIDATE_SCRIPT, keys);
+  }
+
+  public void reviewCreated(ReviewResponseDTO review) {
+    String json = toJson(review);
+    afterCommit(() -> redisStringTemplate.execute(ADD_SCRIPT,
+        List.of(FEED_KEY, ENTRIES_KEY, LIKE_COUNTS_KEY, COMMENT_COUNTS_KEY, TOTAL_KEY, VERSION_KEY),
+        String.valueOf(review.getReviewId()), json,
+        String.valueOf(review.getLikeCount()), String.valueOf(review.getCommentCount()),
+        String.valueOf(CAPACITY)));
+  }
+
+  public void reviewUpdated(ReviewResponseDTO review) {
+    String json = toJson(review);
+    afterCommit(() -> redisStringTemplate.execute(REPLACE_ENTRY_SCRIPT,
+        List.of(ENTRIES_KEY, VERSION_KEY), String.valueOf(review.getReviewId()), json));
+  }
+
+  public void reviewDeleted(Long reviewId) {
+    afterCommit(() -> redisStringTemplate.execute(REMOVE_SCRIPT,
+        List.of(FEED_KEY, ENTRIES_KEY, LIKE_COUNTS_KEY, COMMENT_COUNTS_KEY, TOTAL_KEY, VERSION_KEY),
+        String.valueOf(reviewId)));
+  }
+
+  public void likeCountUpdated(Long reviewId, long likeCount) {
+    afterCommit(() -> redisStringTemplate.execute(SET_COUNT_SCRIPT,
+        List.of(LIKE_COUNTS_KEY, VERSION_KEY), String.valueOf(reviewId), String.valueOf(likeCount)));
+  }
+
+  public void commentCountChanged(Long reviewId, int delta) {
+    incrementCount(COMMENT_COUNTS_KEY, reviewId, delta);
+  }
+
+  private void incrementCount(String key, Long reviewId, int delta) {
+    afterCommit(() -> redisStringTemplate.execute(INCREMENT_COUNT_SCRIPT,
+        List.of(key, VERSION_KEY), String.valueOf(reviewId), String.valueOf(delta)));
+  }
+
+  private int parseCount(Object count) {
+    return count == null ? 0 : Integer.parseInt((String) count);
+  }
+
+  private String toJson(ReviewResponseDTO review) {
+    try {
+      return objectMapper.writeValueAsString(review);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("[REVIEW_FEED] 피드 항목 직렬화 실패 - reviewId = " + review.getReviewId(), e);
+    }
+  }
+
+  // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음), Redis 오류는 피드만 어긋나므로 로그만 남김
+  private void afterCommit(Runnable action) {
+    Runnable safeAction = () -> {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        log.warn("[REVIEW_FEED] 최신 리뷰 피드 반영 실패 - 피드를 버리고 다음 조회 때 다시 생성", e);
+        try {
+          invalidateNow();
+        } catch (RuntimeException ignored) {
+          // Redis 자체가 안 되면 조회도 DB 로 넘어감
+        }
+      }
+    };
+    AfterCommit.run(safeAction);
+  }
+}
@@ -23,6 +23,9 @@ public class LikeService {
   private final ReviewRepository reviewRepository;
   private final UserService userService;
   private final NotificationService notificationService;
+  private final LatestReviewFeed latestReviewFeed;
+  private final ReviewLikeCounter reviewLikeCounter;
+  private final UserLikedReviews userLikedReviews;
 
   @Transactional
   public void toggleLike(Long reviewId) {
@@ -30,30 +33,41 @@ public class LikeService {
     Review review = reviewRepository.findById(reviewId)
         .orElseThrow(() -> new DeepdiviewException(ErrorCode.REVIEW_NOT_FOUND));
 
-    boolean existingLike = likeRepository.existsByReviewAndUser(review, user);
-
     // 좋아요가 눌러져 있으면 좋아요 취소, 좋아요를 누른 적이 없으면 좋아요
-    if (existingLike) {
-      unlike(user, review);
+    // 판단과 좋아요 수 변경은 Redis 에서 원자적으로 (리뷰 행은 건드리지 않고, like_count 는 주기적으로 반영)
+    ReviewLikeCounter.ToggleResult result = reviewLikeCounter.toggle(review.getId(), user.getId());
+    if (result.isLiked()) {
+      like(user, review, result.getLikeCount());
     } else {
-      like(user, review);
+      unlike(user, review, result.getLikeCount());
     }
   }
 
-  private void like(User user, Review review) {
+  private void like(User user, Review review, long likeCount) {
+    // Redis 집합이 DB 와 어긋나 이미 좋아요가 있던 경우 (집합은 토글로 DB 와 같아졌으므로 나머지 반영 없이 종료)
+    if (likeRepository.existsByReviewAndUser(review, user)) {
+      log.info("[LIKE] 이미 좋아요한 리뷰 - userId = {}, reviewId = {}", user.getId(), review.getId());
+      return;
+    }
     Like newlike = Like.builder()
         .user(user)
         .review(review)
         .build();
     likeRepository.save(newlike);
-    review.increaseLikeCount();
-    log.info("[LIKE] 좋아요 성공 - userId = {}, reviewId = {}, 총 좋아요 수 = {}", user.getId(), review.getId(), review.getLikeCount());
-    notificationService.likeAdded(user.getId(), review.getId());
+    latestReviewFeed.likeCountUpdated(review.getId(), likeCount);
+    userLikedReviews.liked(user.getId(), review.getId());
+    log.info("[LIKE] 좋아요 성공 - userId = {}, reviewId = {}, 총 좋아요 수 = {}", user.getId(), review.getId(), likeCount);
+    notificationService.likeAdded(user.getId(), review);
   }
 
-  private void unlike(User user, Review review) {
-    likeRepository.deleteByReviewAndUser(review, user);
-    review.decreaseLikeCount();
-    log.info("[UNLIKE] 좋아요 취소 - userId = {}, reviewId = {}, 총 좋아요 수 = {}", user.getId(), review.getId(), review.getLikeCount());
+  private void unlike(User user, Review review, long likeCount) {
+    // 좋아요가 이미 없던 경우도 마찬가지로 종료
+    if (likeRepository.deleteByReviewAndUser(review, user) == 0) {
+      log.info("[UNLIKE] 좋아요하지 않은 리뷰 - userId = {}, reviewId = {}", user.getId(), review.getId());
+      return;
+    }
+    latestReviewFeed.likeCountUpdated(review.getId(), likeCount);
+    userLikedReviews.unliked(user.getId(), review.getId());
+    log.info("[UNLIKE] 좋아요 취소 - userId = {}, reviewId = {}, 총 좋아요 수 = {}", user.getId(), review.getId(), likeCount);
   }
 }
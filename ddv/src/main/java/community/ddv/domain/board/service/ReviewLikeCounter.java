@@ -0,0 +1,228 @@
+package community.ddv.domain.board.service;
+
+import community.ddv.domain.board.repository.LikeRepository;
+import community.ddv.global.util.AfterCommit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 좋아요 수 (Redis)
+ * - review:likers:{reviewId} : 좋아요 누른 사용자 id 집합 + 로딩 표시(LOADED_MARKER), 좋아요 수 = SCARD - 1
+ *   Lua 로 확인과 추가/삭제를 한 번에 하므로 같은 사용자가 동시에 눌러도 한 번만 반영되고, 리뷰 행 락을 잡지 않음
+ * - review:likes:dirty : 좋아요 수가 바뀐 리뷰 id - 5초마다 review.like_count 에 배치 UPDATE (좋아요순 정렬은 이 컬럼 기준)
+ *   집합이 없는 리뷰(만료, 탈퇴로 삭제)는 likes 테이블에서 세어 반영
+ * likes 테이블이 원본이고, 매일 reconcile 로 review.like_count 를 likes 기준으로 다시 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewLikeCounter {
+
+  private static final String LIKERS_KEY_PREFIX = "review:likers:";
+  private static final String DIRTY_KEY = "review:likes:dirty";
+  private static final String LOADED_MARKER = "-"; // 사용자 id 가 아닌 값 (빈 집합도 로딩된 것으로 표시)
+  private static final Duration LIKERS_TTL = Duration.ofDays(1);
+  private static final int FLUSH_BATCH_SIZE = 500;
+
+  // 좋아요 토글 - {좋아요 여부(1/0), 좋아요 수}, 집합이 아직 없으면 {-1}
+  private static final DefaultRedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {-1}
+      end
+      local liked
+      if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+        redis.call('SREM', KEYS[1], ARGV[1])
+        liked = 0
+      else
+        redis.call('SADD', KEYS[1], ARGV[1])
+        liked = 1
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[3])
+      redis.call('SADD', KEYS[2], ARGV[2])
+      return {liked, redis.call('SCARD', KEYS[1]) - 1}
+      """, List.class);
+
+  // 트랜잭션이 롤백되면 토글 되돌리기 (ARGV[3] = 1 이면 다시 추가, 0 이면 제거)
+  private static final DefaultRedisScript<Long> REVERT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return 0
+      end
+      if ARGV[3] == '1' then
+        redis.call('SADD', KEYS[1], ARGV[1])
+      else
+        redis.call('SREM', KEYS[1], ARGV[1])
+      end
+      redis.call('SADD', KEYS[2], ARGV[2])
+      return 1
+      """, Long.class);
+
+  // DB 에서 읽은 좋아요 사용자로 집합 생성 (다른 요청이 먼저 만들었으면 그대로 둠)
+  private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return 0
+      end
+      for i = 2, #ARGV do
+        redis.call('SADD', KEYS[1], ARGV[i])
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // 리뷰별 좋아요 수 (집합이 만료됐으면 -1)
+  private static final DefaultRedisScript<List> COUNT_SCRIPT = new DefaultRedisScript<>("""
+      local counts = {}
+      for i, key in ipairs(KEYS) do
+        if redis.call('EXISTS', key) == 1 then
+          counts[i] = redis.call('SCARD', key) - 1
+        else
+          counts[i] = -1
+        end
+      end
+      return counts
+      """, List.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final LikeRepository likeRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final LatestReviewFeed latestReviewFeed;
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class ToggleResult {
+    private final boolean liked;  // true 면 좋아요, false 면 좋아요 취소
+    private final long likeCount; // 토글 후 좋아요 수
+  }
+
+  /**
+   * 좋아요 토글 (현재 트랜잭션이 롤백되면 되돌림)
+   */
+  public ToggleResult toggle(Long reviewId, Long userId) {
+    String likersKey = LIKERS_KEY_PREFIX + reviewId;
+    List<String> keys = List.of(likersKey, DIRTY_KEY);
+
+    List<?> result = redisStringTemplate.execute(TOGGLE_SCRIPT, keys,
+        String.valueOf(userId), String.valueOf(reviewId), String.valueOf(LIKERS_TTL.toSeconds()));
+    if (((Number) result.get(0)).intValue() < 0) {
+      loadLikers(reviewId, likersKey);
+      result = redisStringTemplate.execute(TOGGLE_SCRIPT, keys,
+          String.valueOf(userId), String.valueOf(reviewId), String.valueOf(LIKERS_TTL.toSeconds()));
+      if (((Number) result.get(0)).intValue() < 0) {
+        throw new IllegalStateException("[LIKE] 좋아요 집합을 불러오지 못했습니다. reviewId = " + reviewId);
+      }
+    }
+
+    boolean liked = ((Number) result.get(0)).intValue() == 1;
+    AfterCommit.onRollback(() -> redisStringTemplate.execute(REVERT_SCRIPT, keys,
+        String.valueOf(userId), String.valueOf(reviewId), liked ? "0" : "1"));
+    return new ToggleResult(liked, ((Number) result.get(1)).longValue());
+  }
+
+  /**
+   * 좋아요 수가 바뀐 리뷰들의 review.like_count 갱신 (여러 서버가 돌아도 SPOP 으로 나눠 가짐)
+   */
+  @Scheduled(fixedDelay = 5000)
+  public void flushDirtyCounts() {
+    List<String> reviewIds = redisStringTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE);
+    if (reviewIds == null || reviewIds.isEmpty()) {
+      return;
+    }
+
+    List<String> keys = reviewIds.stream().map(id -> LIKERS_KEY_PREFIX + id).toList();
+    try {
+      // 꺼낸 리뷰 id 를 잃지 않도록 좋아요 수 조회부터 실패 시 다시 넣음
+      List<?> counts = redisStringTemplate.execute(COUNT_SCRIPT, keys);
+
+      List<Object[]> updates = new ArrayList<>(reviewIds.size());
+      List<Object[]> countFromLikes = new ArrayList<>();
+      for (int i = 0; i < reviewIds.size(); i++) {
+        long count = ((Number) counts.get(i)).longValue();
+        Long reviewId = Long.parseLong(reviewIds.get(i));
+        if (count >= 0) {
+          updates.add(new Object[]{count, reviewId});
+        } else {
+          countFromLikes.add(new Object[]{reviewId, reviewId});
+        }
+      }
+
+      jdbcTemplate.batchUpdate("UPDATE review SET like_count = ? WHERE id = ?", updates);
+      if (!countFromLikes.isEmpty()) {
+        jdbcTemplate.batchUpdate(
+            "UPDATE review SET like_count = (SELECT COUNT(*) FROM likes WHERE review_id = ?) WHERE id = ?",
+            countFromLikes);
+      }
+    } catch (RuntimeException e) {
+      log.warn("[LIKE] 좋아요 수 반영 실패 - {}개 리뷰 재시도 예정", reviewIds.size(), e);
+      try {
+        // 다음 주기에 다시 반영
+        redisStringTemplate.opsForSet().add(DIRTY_KEY, reviewIds.toArray(String[]::new));
+      } catch (RuntimeException redisError) {
+        // Redis 자체가 안 되면 매일 밤 reconcile 에서 likes 테이블 기준으로 맞춤
+        log.error("[LIKE] 좋아요 수 재시도 등록 실패 - reviewIds = {}", reviewIds, redisError);
+      }
+    }
+  }
+
+  /**
+   * review.like_count 를 likes 테이블 기준으로 다시 맞춤
+   * 먼저 쌓인 변경을 반영한 뒤, 어긋난 리뷰만 고치고 그 리뷰의 Redis 집합은 지워서 다음 토글 때 DB 에서 다시 불러옴
+   */
+  public void reconcile() {
+    flushDirtyCounts();
+
+    List<Object[]> mismatches = jdbcTemplate.query("""
+        SELECT r.id, COALESCE(l.cnt, 0) AS cnt
+        FROM review r
+        LEFT JOIN (SELECT review_id, COUNT(*) AS cnt FROM likes GROUP BY review_id) l ON l.review_id = r.id
+        WHERE r.like_count <> COALESCE(l.cnt, 0)
+        """, (rs, rowNum) -> new Object[]{rs.getLong("cnt"), rs.getLong("id")});
+    if (mismatches.isEmpty()) {
+      log.info("[LIKE] 좋아요 수 재계산 - 어긋난 리뷰 없음");
+      return;
+    }
+
+    jdbcTemplate.batchUpdate("UPDATE review SET like_count = ? WHERE id = ?", mismatches);
+    redisStringTemplate.delete(mismatches.stream().map(row -> LIKERS_KEY_PREFIX + row[1]).toList());
+    latestReviewFeed.invalidate();
+    log.info("[LIKE] 좋아요 수 재계산 - {}개 리뷰 보정", mismatches.size());
+  }
+
+  /**
+   * 회원 탈퇴로 사용자의 좋아요가 함께 지워질 때 (사용자 삭제 전에 호출)
+   * 커밋 후 그 사용자가 좋아요한 리뷰의 집합을 지우고(다음 토글 때 DB 에서 다시 불러옴) like_count 재계산 대상으로 등록
+   */
+  public void userDeleted(Long userId) {
+    List<String> reviewIds = likeRepository.findReviewIdsByUserId(userId).stream()
+        .map(String::valueOf)
+        .toList();
+    if (reviewIds.isEmpty()) {
+      return;
+    }
+    AfterCommit.run(() -> {
+      try {
+        redisStringTemplate.delete(reviewIds.stream().map(id -> LIKERS_KEY_PREFIX + id).toList());
+        redisStringTemplate.opsForSet().add(DIRTY_KEY, reviewIds.toArray(String[]::new));
+      } catch (RuntimeException e) {
+        // 집합은 TTL 후 사라지고, like_count 는 매일 밤 reconcile 에서 맞춤
+        log.warn("[LIKE] 탈퇴 회원 좋아요 정리 실패 - userId = {}, reviewIds = {}", userId, reviewIds, e);
+      }
+    });
+  }
+
+  private void loadLikers(Long reviewId, String likersKey) {
+    List<Long> userIds = likeRepository.findUserIdsByReviewId(reviewId);
+    List<String> args = new ArrayList<>(userIds.size() + 2);
+    args.add(String.valueOf(LIKERS_TTL.toSeconds()));
+    args.add(LOADED_MARKER);
+    userIds.forEach(userId -> args.add(String.valueOf(userId)));
+    redisStringTemplate.execute(LOAD_SCRIPT, List.of(likersKey), args.toArray());
+  }
+}
@@ -7,23 +7,30 @@ import community.ddv.domain.board.dto.ReviewRatingDTO;
 import community.ddv.domain.board.dto.ReviewResponseDTO;
 import community.ddv.domain.board.entity.Review;
 import community.ddv.domain.board.repository.CommentRepository;
-import community.ddv.domain.board.repository.LikeRepository;
 import community.ddv.domain.board.repository.ReviewRepository;
 import community.ddv.domain.movie.entity.Movie;
 import community.ddv.domain.movie.repostitory.MovieRepository;
+import community.ddv.domain.movie.service.MovieRatingStatsService;
 import community.ddv.domain.user.entity.User;
 import community.ddv.domain.user.service.UserService;
+import community.ddv.domain.user.service.UserStatsService;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
+import community.ddv.global.response.CursorPageResponse;
 import community.ddv.global.response.PageResponse;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,7 +45,15 @@ public class ReviewService {
   private final UserService userService;
   private final forbiddenWordsFilter forbiddenWordsFilter;
   private final CommentRepository commentRepository;
-  private final LikeRepository likeRepository;
+  private final MovieRatingStatsService movieRatingStatsService;
+  private final UserStatsService userStatsService;
+  private final LatestReviewFeed latestReviewFeed;
+  private final UserLikedReviews userLikedReviews;
+
+  // 커서가 없을 때(첫 페이지) 쓰는 작성시간 상한
+  private static final LocalDateTime CURSOR_MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+  // 커서 조회 한 번에 가져올 수 있는 최대 개수
+  private static final int MAX_CURSOR_SIZE = 100;
 
   /**
    * 영화 리뷰 작성 _ 유저는 특정 영화에 대해 한 번만 리뷰 작성 가능
@@ -73,6 +88,9 @@ public class ReviewService {
         .build();
 
     reviewRepository.save(review);
+    movieRatingStatsService.reviewCreated(movie, review.getRating());
+    userStatsService.reviewCreated(user.getId(), review.getRating());
+    latestReviewFeed.reviewCreated(buildReviewResponseDto(review, null, 0));
     log.info("[CREATE_REVIEW] 리뷰 작성 성공 - userId = {}, reviewId = {}", user.getId(), review.getId());
     return new ReviewIdResponseDto(review.getId());
   }
@@ -95,7 +113,11 @@ public class ReviewService {
           review.getUser().getId());
       throw new DeepdiviewException(ErrorCode.INVALID_USER);
     }
+    // 함께 지워지는 댓글의 작성자를 알아야 하므로 삭제 전에 반영
+    userStatsService.reviewDeleted(review);
     reviewRepository.delete(review);
+    movieRatingStatsService.reviewDeleted(review.getMovie(), review.getRating());
+    latestReviewFeed.reviewDeleted(reviewId);
     log.info("[DELETE_REVIEW] 리뷰 삭제 완료 - reviewId = {}", reviewId);
   }
 
@@ -122,11 +144,17 @@ public class ReviewService {
     String filteredTitle = forbiddenWordsFilter.filterForbiddenWords(reviewUpdateDTO.getTitle());
     String filteredContent = forbiddenWordsFilter.filterForbiddenWords(reviewUpdateDTO.getContent());
 
+    Double oldRating = review.getRating();
     review.updateReview(
         filteredTitle,
         filteredContent,
         reviewUpdateDTO.getRating()
     );
+    movieRatingStatsService.reviewUpdated(review.getMovie(), oldRating, review.getRating());
+    userStatsService.reviewUpdated(user.getId(), oldRating, review.getRating());
+    // 수정 시각은 flush 때 채워지므로 먼저 반영
+    reviewRepository.flush();
+    latestReviewFeed.reviewUpdated(buildReviewResponseDto(review, null, 0));
     log.info("[UPDATE_REVIEW] 리뷰 수정 완료 - reviewId = {}", reviewId);
     return new ReviewIdResponseDto(review.getId());
 
@@ -154,7 +182,7 @@ public class ReviewService {
       reviews = reviewRepository.findByMovie(movie, pageable);
     }
 
-    return reviews.map(this::convertToReviewResponseDto);
+    return convertToReviewResponsePage(reviews);
   }
 
   /**
@@ -187,53 +215,200 @@ public class ReviewService {
       reviews = reviewRepository.findByUser_Id(userId, pageable);
     }
 
-    return reviews.map(this::convertToReviewResponseDto);
+    return convertToReviewResponsePage(reviews);
 
   }
 
 
   /**
    * 최신순 리뷰 n개 조회
+   * 최신순 기본 정렬이고 피드 범위(LatestReviewFeed.CAPACITY) 안이면 Redis 피드에서 조회 (로그인 사용자의 좋아요 여부만 DB 조회)
    */
   @Transactional(readOnly = true)
   public PageResponse<ReviewResponseDTO> getLatestReviews(Pageable pageable) {
+    if (isLatestFirstSort(pageable)) {
+      LatestReviewFeed.FeedPage feedPage = readLatestReviewFeed(pageable);
+      if (feedPage != null) {
+        List<ReviewResponseDTO> content = withLikedByUser(feedPage.getContent());
+        return new PageResponse<>(new PageImpl<>(content, pageable, feedPage.getTotalElements()));
+      }
+    }
+
     Page<Review> reviews = reviewRepository.findLatestReviews(pageable);
-    Page<ReviewResponseDTO> reviewResponseDTOS = reviews.map(this::convertToReviewResponseDto);
+    Page<ReviewResponseDTO> reviewResponseDTOS = convertToReviewResponsePage(reviews);
     return new PageResponse<>(reviewResponseDTOS);
   }
 
 
+  // 피드에서 조회 (피드가 없으면 다시 만든 뒤 조회), Redis 장애 등으로 못 읽으면 null - DB 에서 조회
+  private LatestReviewFeed.FeedPage readLatestReviewFeed(Pageable pageable) {
+    int offset = (int) pageable.getOffset();
+    try {
+      LatestReviewFeed.FeedPage feedPage = latestReviewFeed.read(offset, pageable.getPageSize());
+      if (feedPage == null && !latestReviewFeed.exists() && rebuildLatestReviewFeed()) {
+        feedPage = latestReviewFeed.read(offset, pageable.getPageSize());
+      }
+      return feedPage;
+    } catch (RuntimeException e) {
+      log.warn("[REVIEW_FEED] 최신 리뷰 피드 조회 실패 - DB 에서 조회", e);
+      return null;
+    }
+  }
+
   /**
-   * 특정 영화의 평균별점, 별점 분포 조회 메서드
+   * DB 기준으로 최신 리뷰 피드 다시 만들기 (서버 시작 시, 피드가 없을 때)
+   * @return 피드를 교체했으면 true (다른 서버가 만드는 중이거나 중간에 리뷰가 바뀌었으면 false)
    */
-  public ReviewRatingDTO getRatingsByMovie(Movie movie) {
+  @Transactional(readOnly = true)
+  public boolean rebuildLatestReviewFeed() {
+    return latestReviewFeed.rebuild(this::loadLatestReviewFeed);
+  }
 
-    // 평균 별점
-    Double ratingAverage = reviewRepository.findAverageRatingByMovie(movie);
-    double roundedRatingAverage = ratingAverage == null ? 0.0 : Math.round(ratingAverage * 10.0) / 10.0;
+  // 피드에 넣을 최신 리뷰 (최대 CAPACITY 개) 와 전체 리뷰 수
+  private LatestReviewFeed.FeedPage loadLatestReviewFeed() {
+    Page<Review> reviews = reviewRepository.findLatestReviews(
+        PageRequest.of(0, LatestReviewFeed.CAPACITY, Sort.by(Direction.DESC, "createdAt", "id")));
+
+    List<Long> reviewIds = reviews.getContent().stream().map(Review::getId).toList();
+    Map<Long, Integer> commentCounts = new HashMap<>();
+    if (!reviewIds.isEmpty()) {
+      for (Object[] row : commentRepository.countByReviewIds(reviewIds)) {
+        commentCounts.put((Long) row[0], ((Long) row[1]).intValue());
+      }
+    }
+
+    List<ReviewResponseDTO> entries = reviews.getContent().stream()
+        .map(review -> buildReviewResponseDto(review, null, commentCounts.getOrDefault(review.getId(), 0)))
+        .toList();
+    return new LatestReviewFeed.FeedPage(entries, reviews.getTotalElements());
+  }
 
-    // 별점 분포
-    List<Review> reviews = reviewRepository.findByMovie(movie);
-    Map<Double, Integer> ratingDistribution = initializeRatingDistribution(reviews);
+  // 최신순(createdAt 내림차순) 기본 정렬인지
+  private boolean isLatestFirstSort(Pageable pageable) {
+    List<Sort.Order> orders = pageable.getSort().toList();
+    return orders.size() == 1
+        && orders.get(0).getProperty().equals("createdAt")
+        && orders.get(0).isDescending();
+  }
 
-    return new ReviewRatingDTO(roundedRatingAverage, ratingDistribution);
+  // 피드 항목에 로그인 사용자의 좋아요 여부 채우기
+  private List<ReviewResponseDTO> withLikedByUser(List<ReviewResponseDTO> reviews) {
+    User loginUser = userService.getLoginOrNull();
+    if (loginUser == null || reviews.isEmpty()) {
+      return reviews;
+    }
+    Set<Long> likedReviewIds = userLikedReviews.findLikedReviewIds(
+        loginUser.getId(), reviews.stream().map(ReviewResponseDTO::getReviewId).toList());
+    return reviews.stream()
+        .map(review -> review.toBuilder().likedByUser(likedReviewIds.contains(review.getReviewId())).build())
+        .toList();
   }
 
-  // 별점 분포 초기화 메서드
-  private Map<Double, Integer> initializeRatingDistribution(List<Review> reviews) {
+  /**
+   * 특정 영화의 리뷰 커서 조회 (count 쿼리 없음)
+   * @param sortByLikes true 면 (좋아요 수, 작성시간, id), false 면 (작성시간, id) 내림차순
+   * 커서 값이 없으면 첫 페이지
+   */
+  @Transactional(readOnly = true)
+  public CursorPageResponse<ReviewResponseDTO> getReviewsByMovieIdWithCursor(
+      Long tmdbId, boolean certifiedFilter, boolean sortByLikes,
+      Integer cursorLikeCount, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+
+    Movie movie = movieRepository.findByTmdbId(tmdbId)
+        .orElseThrow(() -> {
+          log.warn("[MOVIE] 영화 조회 실패 - tmdbId = {}", tmdbId);
+          return new DeepdiviewException(ErrorCode.MOVIE_NOT_FOUND);
+        });
 
-    // 0.5 - 5.0 순서대로 출력하기 위해 LinkedHashMap 사용 ("0.5": 0 이렇게 매핑)
-    Map<Double, Integer> ratingDistribution = new LinkedHashMap<>();
-    for (double i = 0.5; i <= 5.0; i += 0.5) {
-      ratingDistribution.put(i, 0);
+    boolean firstPage = cursorCreatedAt == null || cursorId == null;
+    // 좋아요순 다음 페이지는 좋아요 수 커서가 있어야 위치를 정할 수 있음
+    if (sortByLikes && !firstPage && cursorLikeCount == null) {
+      log.warn("[REVIEW] 좋아요순 커서에 likeCount 누락 - reviewId = {}", cursorId);
+      throw new DeepdiviewException(ErrorCode.INVALID_INPUT_VALUE);
     }
 
-    reviews.stream()
-        .map(Review::getRating)
-        .filter(Objects::nonNull)
-        .forEach(rating -> ratingDistribution.computeIfPresent(rating, (key, value) -> value + 1));
+    // size + 1로 요청해서 다음 페이지가 있는지 판단
+    size = clampCursorSize(size);
+    Pageable pageable = PageRequest.of(0, size + 1);
+    LocalDateTime createdAt = firstPage ? CURSOR_MAX_CREATED_AT : cursorCreatedAt;
+    Long id = firstPage ? Long.MAX_VALUE : cursorId;
 
-    return ratingDistribution;
+    List<Review> reviews;
+    if (sortByLikes) {
+      int likeCount = firstPage ? Integer.MAX_VALUE : cursorLikeCount;
+      reviews = reviewRepository.findByMovieBeforeLikeCursor(movie, certifiedFilter, likeCount, createdAt, id, pageable);
+    } else {
+      reviews = reviewRepository.findByMovieBeforeCursor(movie, certifiedFilter, createdAt, id, pageable);
+    }
+    return toCursorPage(reviews, size, sortByLikes);
+  }
+
+  /**
+   * 특정 사용자가 작성한 리뷰 커서 조회 (작성시간, id 내림차순)
+   */
+  @Transactional(readOnly = true)
+  public CursorPageResponse<ReviewResponseDTO> getReviewsByUserIdWithCursor(
+      Long userId, boolean certifiedFilter, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+
+    size = clampCursorSize(size);
+    boolean firstPage = cursorCreatedAt == null || cursorId == null;
+    List<Review> reviews = reviewRepository.findByUserBeforeCursor(
+        userId, certifiedFilter,
+        firstPage ? CURSOR_MAX_CREATED_AT : cursorCreatedAt,
+        firstPage ? Long.MAX_VALUE : cursorId,
+        PageRequest.of(0, size + 1));
+    return toCursorPage(reviews, size, false);
+  }
+
+  /**
+   * 최신 리뷰 커서 조회 (리뷰 전체 count 없이)
+   */
+  @Transactional(readOnly = true)
+  public CursorPageResponse<ReviewResponseDTO> getLatestReviewsWithCursor(
+      LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+
+    size = clampCursorSize(size);
+    boolean firstPage = cursorCreatedAt == null || cursorId == null;
+    List<Review> reviews = reviewRepository.findLatestReviewsBeforeCursor(
+        firstPage ? CURSOR_MAX_CREATED_AT : cursorCreatedAt,
+        firstPage ? Long.MAX_VALUE : cursorId,
+        PageRequest.of(0, size + 1));
+    return toCursorPage(reviews, size, false);
+  }
+
+  // 커서 조회 크기를 1 ~ MAX_CURSOR_SIZE 로 맞춤 (음수/0 이나 지나치게 큰 값 방지)
+  private static int clampCursorSize(int size) {
+    return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+  }
+
+  // size + 1 개 조회한 결과로 응답과 다음 커서 생성
+  private CursorPageResponse<ReviewResponseDTO> toCursorPage(List<Review> reviews, int size, boolean withLikeCount) {
+    boolean hasNext = reviews.size() > size;
+    if (hasNext) {
+      reviews = reviews.subList(0, size);
+    }
+
+    List<ReviewResponseDTO> content = convertToReviewResponseDtos(reviews);
+
+    LocalDateTime nextCreatedAt = null;
+    Long nextId = null;
+    Integer nextLikeCount = null;
+    if (hasNext && !reviews.isEmpty()) {
+      Review last = reviews.get(reviews.size() - 1);
+      nextCreatedAt = last.getCreatedAt();
+      nextId = last.getId();
+      nextLikeCount = withLikeCount ? last.getLikeCount() : null;
+    }
+
+    return new CursorPageResponse<>(content, nextCreatedAt, nextId, hasNext, nextLikeCount);
+  }
+
+
+  /**
+   * 특정 영화의 평균별점, 별점 분포 조회 메서드 (영화별 별점 집계 테이블 사용)
+   */
+  public ReviewRatingDTO getRatingsByMovie(Movie movie) {
+    return movieRatingStatsService.getRatingStats(movie);
   }
 
 
@@ -241,12 +416,53 @@ public class ReviewService {
 
     User loginUser = userService.getLoginOrNull();
     Boolean likedByUser = (loginUser != null)
-        ? likeRepository.existsByReviewAndUser(review, loginUser)
+        ? userLikedReviews.findLikedReviewIds(loginUser.getId(), List.of(review.getId())).contains(review.getId())
         : null;
 
     // 댓글 개수
     int commentCount = commentRepository.countByReview(review);
 
+    return buildReviewResponseDto(review, likedByUser, commentCount);
+  }
+
+  /**
+   * 리뷰 목록을 한 번에 DTO로 변환
+   * 로그인 사용자는 한 번만 조회하고, 좋아요 여부와 댓글 수는 목록 전체에 대해 각각 한 번의 쿼리로 가져옴
+   */
+  public List<ReviewResponseDTO> convertToReviewResponseDtos(List<Review> reviews) {
+
+    if (reviews.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> reviewIds = reviews.stream()
+        .map(Review::getId)
+        .toList();
+
+    User loginUser = userService.getLoginOrNull();
+    Set<Long> likedReviewIds = (loginUser != null)
+        ? userLikedReviews.findLikedReviewIds(loginUser.getId(), reviewIds)
+        : Set.of();
+
+    Map<Long, Integer> commentCounts = new HashMap<>();
+    for (Object[] row : commentRepository.countByReviewIds(reviewIds)) {
+      commentCounts.put((Long) row[0], ((Long) row[1]).intValue());
+    }
+
+    return reviews.stream()
+        .map(review -> buildReviewResponseDto(
+            review,
+            loginUser != null ? likedReviewIds.contains(review.getId()) : null,
+            commentCounts.getOrDefault(review.getId(), 0)))
+        .toList();
+  }
+
+  private Page<ReviewResponseDTO> convertToReviewResponsePage(Page<Review> reviews) {
+    List<ReviewResponseDTO> content = convertToReviewResponseDtos(reviews.getContent());
+    return new PageImpl<>(content, reviews.getPageable(), reviews.getTotalElements());
+  }
+
+  private ReviewResponseDTO buildReviewResponseDto(Review review, Boolean likedByUser, int commentCount) {
     return ReviewResponseDTO.builder()
         .reviewId(review.getId())
         .userId(review.getUser().getId())
@@ -0,0 +1,167 @@
+package community.ddv.domain.board.service;
+
+import community.ddv.domain.board.repository.LikeRepository;
+import community.ddv.global.util.AfterCommit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 좋아요 누른 리뷰 id 집합 (Redis)
+ * - user:liked-reviews:{userId} : 좋아요 누른 리뷰 id + 로딩 표시(LOADED_MARKER)
+ * - user:liked-reviews:pending:{userId} : 집합이 없을 때 커밋된 좋아요/취소 (리뷰 id → 1/0, 잠깐만 보관)
+ * 처음 조회할 때 likes 테이블에서 불러오고, 이후 좋아요/취소가 커밋되면 갱신
+ * DB 조회와 집합 저장 사이에 커밋된 변경은 pending 에 남겨 두었다가 불러올 때 합침
+ * 리뷰 목록의 likedByUser 를 리뷰마다 조회하지 않고 Redis 호출 한 번으로 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserLikedReviews {
+
+  private static final String KEY_PREFIX = "user:liked-reviews:";
+  private static final String PENDING_KEY_PREFIX = "user:liked-reviews:pending:";
+  private static final String LOADED_MARKER = "-";
+  private static final Duration TTL = Duration.ofDays(1);
+  private static final Duration PENDING_TTL = Duration.ofMinutes(1); // DB 조회 ~ 집합 저장 사이만 덮으면 됨
+
+  // 주어진 리뷰 id 중 집합에 있는 것만 반환, 집합이 아직 없으면 {-1}
+  private static final DefaultRedisScript<List> FIND_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {-1}
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      local liked = {}
+      for i = 2, #ARGV do
+        if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then
+          liked[#liked + 1] = tonumber(ARGV[i])
+        end
+      end
+      return liked
+      """, List.class);
+
+  // DB 에서 읽은 id 를 넣은 뒤 pending 에 남은 변경을 덮어씀 (DB 조회 이후 커밋된 좋아요/취소 반영)
+  private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return 0
+      end
+      for i = 2, #ARGV do
+        redis.call('SADD', KEYS[1], ARGV[i])
+      end
+      local pending = redis.call('HGETALL', KEYS[2])
+      for i = 1, #pending, 2 do
+        if pending[i + 1] == '1' then
+          redis.call('SADD', KEYS[1], pending[i])
+        else
+          redis.call('SREM', KEYS[1], pending[i])
+        end
+      end
+      redis.call('DEL', KEYS[2])
+      redis.call('EXPIRE', KEYS[1], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // 이미 불러온 집합만 갱신, 없으면 불러오는 중일 수 있으므로 pending 에 잠깐 남김
+  private static final DefaultRedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+        redis.call('EXPIRE', KEYS[2], ARGV[3])
+        return 0
+      end
+      if ARGV[2] == '1' then
+        redis.call('SADD', KEYS[1], ARGV[1])
+      else
+        redis.call('SREM', KEYS[1], ARGV[1])
+      end
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final LikeRepository likeRepository;
+
+  /**
+   * 주어진 리뷰들 중 사용자가 좋아요를 누른 리뷰 id
+   */
+  public Set<Long> findLikedReviewIds(Long userId, Collection<Long> reviewIds) {
+    if (reviewIds.isEmpty()) {
+      return Set.of();
+    }
+    String key = KEY_PREFIX + userId;
+    List<String> args = new ArrayList<>(reviewIds.size() + 1);
+    args.add(String.valueOf(TTL.toSeconds()));
+    reviewIds.forEach(reviewId -> args.add(String.valueOf(reviewId)));
+
+    List<?> result;
+    try {
+      result = redisStringTemplate.execute(FIND_SCRIPT, List.of(key), args.toArray());
+      if (isNotLoaded(result)) {
+        load(userId, key);
+        result = redisStringTemplate.execute(FIND_SCRIPT, List.of(key), args.toArray());
+      }
+    } catch (RuntimeException e) {
+      log.warn("[LIKE] 좋아요 누른 리뷰 집합 조회 실패 - DB 에서 조회, userId = {}", userId, e);
+      return likeRepository.findLikedReviewIds(userId, reviewIds);
+    }
+    if (isNotLoaded(result)) {
+      // 불러오자마자 지워진 경우 (탈퇴 등) DB 에서 직접 확인
+      return likeRepository.findLikedReviewIds(userId, reviewIds);
+    }
+
+    Set<Long> liked = new HashSet<>();
+    result.forEach(reviewId -> liked.add(((Number) reviewId).longValue()));
+    return liked;
+  }
+
+  public void liked(Long userId, Long reviewId) {
+    update(userId, reviewId, true);
+  }
+
+  public void unliked(Long userId, Long reviewId) {
+    update(userId, reviewId, false);
+  }
+
+  // 탈퇴한 사용자 집합 삭제
+  public void evict(Long userId) {
+    redisStringTemplate.delete(List.of(KEY_PREFIX + userId, PENDING_KEY_PREFIX + userId));
+  }
+
+  private void update(Long userId, Long reviewId, boolean liked) {
+    Runnable action = () -> redisStringTemplate.execute(UPDATE_SCRIPT,
+        List.of(KEY_PREFIX + userId, PENDING_KEY_PREFIX + userId),
+        String.valueOf(reviewId), liked ? "1" : "0", String.valueOf(PENDING_TTL.toSeconds()));
+    AfterCommit.run(() -> {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        // 어긋난 집합은 버리고 다음 조회 때 DB 에서 다시 불러옴
+        log.warn("[LIKE] 좋아요 누른 리뷰 집합 갱신 실패 - userId = {}", userId, e);
+        try {
+          evict(userId);
+        } catch (RuntimeException ignored) {
+          // Redis 자체가 안 되면 조회도 DB 로 넘어감
+        }
+      }
+    });
+  }
+
+  private void load(Long userId, String key) {
+    List<Long> reviewIds = likeRepository.findReviewIdsByUserId(userId);
+    List<String> args = new ArrayList<>(reviewIds.size() + 2);
+    args.add(String.valueOf(TTL.toSeconds()));
+    args.add(LOADED_MARKER);
+    reviewIds.forEach(reviewId -> args.add(String.valueOf(reviewId)));
+    redisStringTemplate.execute(LOAD_SCRIPT, List.of(key, PENDING_KEY_PREFIX + userId), args.toArray());
+  }
+
+  private boolean isNotLoaded(List<?> result) {
+    return result.size() == 1 && ((Number) result.get(0)).longValue() < 0;
+  }
+}
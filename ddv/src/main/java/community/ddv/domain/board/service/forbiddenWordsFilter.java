@@ -1,32 +1,91 @@
 package community.ddv.domain.board.service;
 
+import jakarta.annotation.PostConstruct;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 금칙어 필터
+ * Redis의 금칙어 Set은 변경될 때만 읽어와 로컬 오토마톤으로 컴파일하고, 글 작성/수정 시에는 Redis를 호출하지 않음
+ * 변경 감지 : 1분마다 Set의 다이제스트(정렬한 원소의 SHA-1, Redis 안에서 계산)를 비교해 달라졌으면 다시 읽음
+ * 금칙어 Set을 변경한 쪽이 notifyForbiddenWordsChanged 를 호출하면 1분을 기다리지 않고 모든 서버에 바로 반영
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class forbiddenWordsFilter {
 
+  private static final String FORBIDDEN_WORDS_KEY = "forbidden-words";
+  private static final String FORBIDDEN_WORDS_CHANNEL = "forbidden-words:changed";
+
+  // 원소를 정렬해서 이어 붙인 문자열의 SHA-1 (Set 전체를 전송하지 않고 변경 여부 확인)
+  private static final DefaultRedisScript<String> DIGEST_SCRIPT = new DefaultRedisScript<>("""
+      local words = redis.call('SMEMBERS', KEYS[1])
+      table.sort(words)
+      return redis.sha1hex(table.concat(words, '\\n'))
+      """, String.class);
+
   private final RedisTemplate<String, String> redisStringTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private volatile ForbiddenWordMatcher matcher = ForbiddenWordMatcher.empty();
+  private volatile String loadedDigest; // 마지막으로 불러온 Set 의 다이제스트 (불러오지 못했으면 null)
+
+  @PostConstruct
+  public void init() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> reloadForbiddenWords(),
+        new ChannelTopic(FORBIDDEN_WORDS_CHANNEL));
+    reloadForbiddenWords();
+  }
 
   public Set<String> getForbiddenWords() {
-    return redisStringTemplate.opsForSet().members("forbidden-words");
+    return redisStringTemplate.opsForSet().members(FORBIDDEN_WORDS_KEY);
   }
 
   public String filterForbiddenWords(String input) {
-    if (input == null || input.isEmpty()) {
-      return input;
+    return matcher.mask(input);
+  }
+
+  // Redis에서 금칙어 목록을 다시 읽어와 오토마톤 교체
+  public synchronized void reloadForbiddenWords() {
+    try {
+      // 다이제스트를 먼저 읽으므로, 그 사이 Set 이 바뀌면 다음 확인 때 다이제스트가 달라 다시 읽음
+      String digest = redisStringTemplate.execute(DIGEST_SCRIPT, List.of(FORBIDDEN_WORDS_KEY));
+      Set<String> forbiddenWords = getForbiddenWords();
+      matcher = ForbiddenWordMatcher.compile(forbiddenWords);
+      loadedDigest = digest;
+      log.info("[FORBIDDEN_WORDS] 금칙어 목록 갱신 완료 - 금칙어 수 = {}", matcher.getWordCount());
+    } catch (RuntimeException e) {
+      // Redis 장애 시에는 기존 오토마톤을 그대로 사용하고, 다음 확인 때 다시 시도
+      loadedDigest = null;
+      log.error("[FORBIDDEN_WORDS] 금칙어 목록 갱신 실패", e);
     }
-    Set<String> forbiddenWords = getForbiddenWords();
-    for (String word : forbiddenWords) {
-      if (input.contains(word)) {
-        String masked = "*".repeat(word.length());
-        input = input.replace(word, masked);
+  }
+
+  // 금칙어 Set 변경 후 호출하면 모든 서버에 바로 반영 (호출하지 않아도 1분 안에 반영됨)
+  public void notifyForbiddenWordsChanged() {
+    redisStringTemplate.convertAndSend(FORBIDDEN_WORDS_CHANNEL, "changed");
+  }
+
+  // 1분마다 Set 의 다이제스트를 확인해 달라졌거나 마지막 갱신이 실패했으면 다시 읽음
+  @Scheduled(fixedDelay = 60000)
+  public void checkForbiddenWords() {
+    try {
+      String digest = redisStringTemplate.execute(DIGEST_SCRIPT, List.of(FORBIDDEN_WORDS_KEY));
+      if (loadedDigest == null || !loadedDigest.equals(digest)) {
+        reloadForbiddenWords();
       }
+    } catch (RuntimeException e) {
+      log.warn("[FORBIDDEN_WORDS] 금칙어 변경 확인 실패: {}", e.getMessage());
     }
-    return input;
   }
 }
-
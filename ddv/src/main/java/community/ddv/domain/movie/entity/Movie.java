@@ -8,7 +8,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +21,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_movie_available_displayable_popularity", columnList = "isAvailable, displayable, popularity"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -34,6 +37,24 @@ public class Movie {
   private String title;          // 제목
   private String originalTitle;  // 원어 제목
 
+  // 수집 시 계산해 두는 값 (조회 쿼리에서 행마다 REGEXP/REPLACE 를 하지 않도록)
+  private String normalizedTitle;         // 공백 제거 + 소문자 제목
+  private String normalizedOriginalTitle; // 공백 제거 + 소문자 원제
+  private boolean displayable;            // 한글이 있거나 영문/숫자로 시작하는 제목 (인기 목록 노출 대상)
+
+  // 인기도 구간/제공 여부/포스터/장르로 만든 지문 - 주간 수집에서 바뀐 영화만 다시 쓰기 위해 사용 (제공 중단 시 null)
+  private Long contentFingerprint;
+
+  public void updateContentFingerprint(Long contentFingerprint) {
+    this.contentFingerprint = contentFingerprint;
+  }
+
+  public void updateDerivedColumns(String normalizedTitle, String normalizedOriginalTitle, boolean displayable) {
+    this.normalizedTitle = normalizedTitle;
+    this.normalizedOriginalTitle = normalizedOriginalTitle;
+    this.displayable = displayable;
+  }
+
   @Column(columnDefinition = "TEXT")
   private String overview;       // 즐거리
 
@@ -0,0 +1,52 @@
+package community.ddv.domain.movie.entity;
+
+import community.ddv.domain.board.entity.RatingHistogram;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 영화별 별점 집계 (리뷰 작성/수정/삭제 시 증분 반영)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class MovieRatingStats {
+
+  @Id
+  private Long movieId; // Movie.id
+
+  @Embedded
+  private RatingHistogram histogram = new RatingHistogram();
+
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  public MovieRatingStats(Long movieId) {
+    this.movieId = movieId;
+  }
+
+  public void addRating(Double rating) {
+    histogram.addRating(rating);
+  }
+
+  public void removeRating(Double rating) {
+    histogram.removeRating(rating);
+  }
+
+  public void changeRating(Double oldRating, Double newRating) {
+    histogram.removeRating(oldRating);
+    histogram.addRating(newRating);
+  }
+
+  // 재집계 전에 0 으로 초기화
+  public void resetRatings() {
+    histogram = new RatingHistogram();
+  }
+}
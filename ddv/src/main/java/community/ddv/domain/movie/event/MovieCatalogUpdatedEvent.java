@@ -0,0 +1,27 @@
+package community.ddv.domain.movie.event;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TMDB 영화 정보 수집(fetchAndSaveMovies)이 끝난 뒤 발행되는 변경 내역
+ * 영화 목록으로 만든 메모리 색인/캐시가 바뀐 부분이 있을 때만 다시 만들 수 있도록 TMDB ID 로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieCatalogUpdatedEvent {
+
+  private final Set<Long> addedTmdbIds;   // 새로 저장된 영화
+  private final Set<Long> changedTmdbIds; // 인기도 구간/제공 여부/포스터/장르가 바뀐 영화
+  private final Set<Long> removedTmdbIds; // 제공 중단된 영화
+
+  public boolean isEmpty() {
+    return addedTmdbIds.isEmpty() && changedTmdbIds.isEmpty() && removedTmdbIds.isEmpty();
+  }
+
+  // 제목 목록이나 인기도 순서가 바뀌었는지 (제공 중단만 있으면 제목 색인은 그대로)
+  public boolean changesTitlesOrRanking() {
+    return !addedTmdbIds.isEmpty() || !changedTmdbIds.isEmpty();
+  }
+}
@@ -0,0 +1,170 @@
+package community.ddv.domain.movie.repostitory;
+
+import community.ddv.domain.movie.entity.Movie;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TMDB 수집용 JDBC 배치 쓰기
+ * IDENTITY 전략 엔티티는 Hibernate 배치 insert 가 되지 않아 청크 단위 INSERT ... ON DUPLICATE KEY UPDATE 로 저장
+ * (MySQL 드라이버가 한 번의 multi-row insert 로 보내도록 DataSourceConfig 에서 rewriteBatchedStatements=true 설정)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieBulkRepository {
+
+  private static final int IN_CLAUSE_SIZE = 1000;
+
+  // 이미 있는 영화는 지문에 들어가는 값(인기도, 제공 여부, 포스터)과 지문만 갱신
+  private static final String UPSERT_MOVIE_SQL = """
+      INSERT INTO movie (tmdb_id, title, original_title, normalized_title, normalized_original_title, displayable,
+                         overview, release_date, popularity, poster_path, backdrop_path, content_fingerprint, is_available)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)
+      ON DUPLICATE KEY UPDATE popularity = VALUES(popularity), is_available = true,
+                              poster_path = VALUES(poster_path), content_fingerprint = VALUES(content_fingerprint)
+      """;
+  private static final String INSERT_MOVIE_GENRE_SQL =
+      "INSERT INTO movie_genre (movie_id, genre_id) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /**
+   * 새로 들어왔거나 지문이 바뀐 영화 한 청크 upsert (청크 하나가 하나의 트랜잭션)
+   * 장르는 저장된 장르 목록과 다른 영화만 지우고 다시 저장
+   * @param movies 저장할 영화 (장르, 지문 포함)
+   */
+  @Transactional
+  public void upsertChunk(List<Movie> movies) {
+    jdbcTemplate.batchUpdate(UPSERT_MOVIE_SQL, movies, movies.size(), (ps, movie) -> {
+      ps.setLong(1, movie.getTmdbId());
+      ps.setString(2, movie.getTitle());
+      ps.setString(3, movie.getOriginalTitle());
+      ps.setString(4, movie.getNormalizedTitle());
+      ps.setString(5, movie.getNormalizedOriginalTitle());
+      ps.setBoolean(6, movie.isDisplayable());
+      ps.setString(7, movie.getOverview());
+      if (movie.getReleaseDate() != null) {
+        ps.setDate(8, Date.valueOf(movie.getReleaseDate()));
+      } else {
+        ps.setNull(8, Types.DATE);
+      }
+      if (movie.getPopularity() != null) {
+        ps.setDouble(9, movie.getPopularity());
+      } else {
+        ps.setNull(9, Types.DOUBLE);
+      }
+      ps.setString(10, movie.getPosterPath());
+      ps.setString(11, movie.getBackdropPath());
+      ps.setLong(12, movie.getContentFingerprint());
+    });
+
+    // ON DUPLICATE KEY 와 함께 쓰면 생성 키를 믿을 수 없으므로 영화 id 는 다시 조회
+    Map<Long, Long> movieIds = findIdsByTmdbIds(movies.stream().map(Movie::getTmdbId).toList());
+    Map<Long, Set<Long>> storedGenreIds = findGenreIdsByMovieIds(movieIds.values());
+
+    List<Long> staleMovieIds = new ArrayList<>();
+    List<Object[]> movieGenres = new ArrayList<>();
+    for (Movie movie : movies) {
+      Long movieId = movieIds.get(movie.getTmdbId());
+      if (movieId == null) {
+        continue;
+      }
+      Set<Long> genreIds = movie.getMovieGenres().stream()
+          .map(movieGenre -> movieGenre.getGenre().getId())
+          .collect(Collectors.toSet());
+      Set<Long> stored = storedGenreIds.getOrDefault(movieId, Set.of());
+      if (genreIds.equals(stored)) {
+        continue;
+      }
+      if (!stored.isEmpty()) {
+        staleMovieIds.add(movieId);
+      }
+      genreIds.forEach(genreId -> movieGenres.add(new Object[]{movieId, genreId}));
+    }
+    if (!staleMovieIds.isEmpty()) {
+      namedParameterJdbcTemplate.update(
+          "DELETE FROM movie_genre WHERE movie_id IN (:movieIds)",
+          new MapSqlParameterSource("movieIds", staleMovieIds));
+    }
+    if (!movieGenres.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_MOVIE_GENRE_SQL, movieGenres);
+    }
+  }
+
+  /**
+   * 런타임 한 묶음 저장 (묶음 하나가 하나의 트랜잭션)
+   * @param runtimes 영화 id → 런타임
+   * @return 갱신된 영화 수 (그 사이 런타임이 채워진 영화는 덮어쓰지 않음)
+   */
+  @Transactional
+  public int updateRuntimes(Map<Long, Integer> runtimes) {
+    if (runtimes.isEmpty()) {
+      return 0;
+    }
+    List<Object[]> args = new ArrayList<>(runtimes.size());
+    runtimes.forEach((movieId, runtime) -> args.add(new Object[]{runtime, movieId}));
+    int[] results = jdbcTemplate.batchUpdate(
+        "UPDATE movie SET runtime = ? WHERE id = ? AND (runtime IS NULL OR runtime = 0)", args);
+    int updated = 0;
+    for (int result : results) {
+      // 드라이버가 배치를 합쳐 보내면 행 수 대신 SUCCESS_NO_INFO(-2) 가 올 수 있음
+      updated += result == Statement.SUCCESS_NO_INFO ? 1 : result;
+    }
+    return updated;
+  }
+
+  // TMDB 에서 사라진 영화들 제공 중단 처리 (지문을 비워서 다시 나타나면 바뀐 영화로 저장되도록)
+  @Transactional
+  public int markUnavailable(Collection<Long> tmdbIds) {
+    int updated = 0;
+    List<Long> ids = new ArrayList<>(tmdbIds);
+    for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size()));
+      updated += namedParameterJdbcTemplate.update(
+          "UPDATE movie SET is_available = false, content_fingerprint = NULL WHERE tmdb_id IN (:tmdbIds)",
+          new MapSqlParameterSource("tmdbIds", chunk));
+    }
+    return updated;
+  }
+
+  private Map<Long, Set<Long>> findGenreIdsByMovieIds(Collection<Long> movieIds) {
+    Map<Long, Set<Long>> genreIds = new HashMap<>();
+    if (movieIds.isEmpty()) {
+      return genreIds;
+    }
+    namedParameterJdbcTemplate.query(
+        "SELECT movie_id, genre_id FROM movie_genre WHERE movie_id IN (:movieIds)",
+        new MapSqlParameterSource("movieIds", movieIds),
+        rs -> {
+          genreIds.computeIfAbsent(rs.getLong("movie_id"), id -> new HashSet<>()).add(rs.getLong("genre_id"));
+        });
+    return genreIds;
+  }
+
+  private Map<Long, Long> findIdsByTmdbIds(Collection<Long> tmdbIds) {
+    Map<Long, Long> movieIds = new HashMap<>();
+    namedParameterJdbcTemplate.query(
+        "SELECT id, tmdb_id FROM movie WHERE tmdb_id IN (:tmdbIds)",
+        new MapSqlParameterSource("tmdbIds", tmdbIds),
+        rs -> {
+          movieIds.put(rs.getLong("tmdb_id"), rs.getLong("id"));
+        });
+    return movieIds;
+  }
+}
@@ -0,0 +1,38 @@
+package community.ddv.domain.movie.repostitory;
+
+import community.ddv.domain.movie.entity.MovieRatingStats;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MovieRatingStatsRepository extends JpaRepository<MovieRatingStats, Long> {
+
+  // 동시에 같은 영화에 리뷰가 작성될 때 갱신이 유실되지 않도록 행 잠금 후 조회
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM MovieRatingStats s WHERE s.movieId = :movieId")
+  Optional<MovieRatingStats> findForUpdate(@Param("movieId") Long movieId);
+
+  // 재집계용 - 여러 영화의 행을 id 순서대로 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM MovieRatingStats s WHERE s.movieId IN :movieIds ORDER BY s.movieId")
+  List<MovieRatingStats> findAllForUpdate(@Param("movieIds") Collection<Long> movieIds);
+
+  @Query("SELECT s.movieId FROM MovieRatingStats s")
+  List<Long> findAllMovieIds();
+
+  // 행이 없을 때만 0 으로 생성 (첫 리뷰가 동시에 작성돼도 PK 중복 없이 한 행만 생김)
+  @Modifying
+  @Query(value = """
+      INSERT INTO movie_rating_stats (movie_id, rating_count, rating_sum, rating05, rating10, rating15, rating20, rating25,
+                                      rating30, rating35, rating40, rating45, rating50, updated_at)
+      VALUES (:movieId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, NOW())
+      ON DUPLICATE KEY UPDATE movie_id = movie_id
+      """, nativeQuery = true)
+  void insertIfAbsent(@Param("movieId") Long movieId);
+}
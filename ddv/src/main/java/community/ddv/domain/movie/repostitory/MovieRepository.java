@@ -1,6 +1,7 @@
 package community.ddv.domain.movie.repostitory;
 
 import community.ddv.domain.movie.entity.Movie;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -14,34 +15,73 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
-  // 넷플릭스 내 인기도 상위 n개의 영화정보 조회
-  @Query(
-      value =
-          "SELECT * FROM movie WHERE is_available = true AND" +
-          "(title REGEXP '[ㄱ-ㅎㅏ-ㅣ가-힣]' OR title REGEXP '^[a-zA-Z0-9\\s.,!?~&=\\\"'':()\\-\\+\\#\\*\\%\\/]+')" +
-          "ORDER BY popularity DESC " +
-          "LIMIT :limit",
-      nativeQuery = true)
-  List<Movie> findAllByAvailableIsTrueOrderByPopularityDesc(@Param("limit") int limit);
-
-  // 특정 단어가 포함된 영화 정보 리스트 조회(공백 무시)
+  // 넷플릭스 내 인기도 상위 n개의 영화정보 조회 (idx_movie_available_displayable_popularity 범위 스캔)
   @Query("""
       SELECT m
       FROM Movie m
-      WHERE REPLACE(m.title, ' ', '') LIKE CONCAT('%', REPLACE(:title, ' ', ''), '%')
-      OR REPLACE(m.originalTitle, ' ', '') LIKE CONCAT('%', REPLACE(:title, ' ', ''), '%')
+      WHERE m.isAvailable = true
+        AND m.displayable = true
+      ORDER BY m.popularity DESC
+""")
+  List<Movie> findTopDisplayableMovies(Pageable pageable);
+
+  // 특정 단어가 포함된 영화 정보 리스트 조회(공백 무시, normalizedTitle 은 TitleNormalizer 로 정규화된 검색어)
+  @Query("""
+      SELECT m
+      FROM Movie m
+      WHERE m.normalizedTitle LIKE CONCAT('%', :normalizedTitle, '%')
+      OR m.normalizedOriginalTitle LIKE CONCAT('%', :normalizedTitle, '%')
       ORDER BY m.popularity DESC
       """)
-  Page<Movie> findByTitleFlexible(@Param("title") String title, Pageable pageable);
+  Page<Movie> findByTitleFlexible(@Param("normalizedTitle") String normalizedTitle, Pageable pageable);
 
   // 제목 자동완성 5개
   @Query("""
       SELECT m.title
       FROM Movie m
-      WHERE REPLACE(m.title, ' ', '') LIKE CONCAT('%', REPLACE(:keyword, ' ', ''), '%')
+      WHERE m.normalizedTitle LIKE CONCAT('%', :normalizedKeyword, '%')
       ORDER BY m.popularity DESC
 """)
-      List<String> find5AutocompleteTitles(@Param("keyword") String title, Pageable pageable);
+      List<String> find5AutocompleteTitles(@Param("normalizedKeyword") String normalizedKeyword, Pageable pageable);
+
+  // 저장된 모든 영화의 (tmdbId, 내용 지문)
+  @Query("SELECT m.tmdbId, m.contentFingerprint FROM Movie m")
+  List<Object[]> findAllContentFingerprints();
+
+  // 현재 제공 중인 영화의 TMDB ID
+  @Query("SELECT m.tmdbId FROM Movie m WHERE m.isAvailable = true")
+  List<Long> findAvailableTmdbIds();
+
+  // 수집 시 계산하는 컬럼이 아직 채워지지 않은 영화
+  List<Movie> findByNormalizedTitleIsNull();
+
+  // 런타임 정보가 없는 영화 (id, tmdbId) - id 기준 keyset 페이지
+  @Query("""
+      SELECT m.id, m.tmdbId
+      FROM Movie m
+      WHERE (m.runtime IS NULL OR m.runtime = 0)
+        AND m.id > :afterId
+      ORDER BY m.id
+""")
+  List<Object[]> findRuntimeMissingAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  // 제목 검색 색인용 (tmdbId, 제목, 원제) - 인기도 내림차순
+  @Query("""
+      SELECT m.tmdbId, m.title, m.originalTitle
+      FROM Movie m
+      ORDER BY m.popularity DESC, m.tmdbId
+""")
+  List<Object[]> findAllTitleEntries();
+
+  // 여러 영화를 장르와 함께 조회
+  @Query("""
+      SELECT DISTINCT m
+      FROM Movie m
+      LEFT JOIN FETCH m.movieGenres mg
+      LEFT JOIN FETCH mg.genre
+      WHERE m.tmdbId IN :tmdbIds
+""")
+  List<Movie> findAllWithGenresByTmdbIdIn(@Param("tmdbIds") Collection<Long> tmdbIds);
 
   // TMDB Id로 특정영화 조회
   Optional<Movie> findByTmdbId(Long tmdbId);
@@ -49,8 +89,9 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
   @Query("""
       SELECT m 
       FROM Movie m 
-      WHERE m.isAvailable = true 
-        AND m.tmdbId NOT IN :excludedTmdbIds 
+      WHERE m.isAvailable = true
+        AND m.displayable = true
+        AND m.tmdbId NOT IN :excludedTmdbIds
       ORDER BY m.popularity DESC
       """)
   List<Movie> findTop6RankExcludedTmdbIds(Set<Long> excludedTmdbIds, Pageable pageable);
@@ -4,17 +4,43 @@ import community.ddv.domain.movie.dto.MovieDTO;
 import community.ddv.domain.movie.dto.MovieResponse;
 import community.ddv.domain.movie.entity.Genre;
 import community.ddv.domain.movie.entity.Movie;
+import community.ddv.domain.movie.event.MovieCatalogUpdatedEvent;
 import community.ddv.domain.movie.repostitory.GenreRepository;
+import community.ddv.domain.movie.repostitory.MovieBulkRepository;
 import community.ddv.domain.movie.repostitory.MovieRepository;
+import community.ddv.global.util.TokenBucket;
+import community.ddv.global.util.TokenHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,117 +55,353 @@ public class MovieApiService {
 
   @Value("${tmdb.key}")
   private String tmdbKey;
-  private final String TMDB_MOVIE_API_URL = "https://api.themoviedb.org/3/discover/movie?include_adult=true&include_video=false&language=ko&sort_by=primary_release_date.desc&watch_region=KR&with_watch_providers=8&api_key=";
-  private final String TMDB_MOVIE_RUNTIME_API_URL = "https://api.themoviedb.org/3/movie/";
+  // TMDB API 주소 (테스트에서는 녹화한 응답을 내려주는 로컬 서버 주소로 교체)
+  @Value("${tmdb.base-url:https://api.themoviedb.org/3}")
+  private String tmdbBaseUrl;
+  private final String TMDB_MOVIE_API_PATH = "/discover/movie?include_adult=true&include_video=false&language=ko&sort_by=primary_release_date.desc&watch_region=KR&with_watch_providers=8&api_key=";
+  private final String TMDB_MOVIE_RUNTIME_API_PATH = "/movie/";
+
+  private static final Pattern HANGUL_PATTERN = Pattern.compile("[ㄱ-ㅎㅏ-ㅣ가-힣]");
+  private static final Pattern LATIN_START_PATTERN = Pattern.compile("[a-zA-Z0-9\\s.,!?~&=\"':()\\-+#*%/]");
+
+  // 청크(트랜잭션) 하나에 저장할 영화 수
+  private static final int CHUNK_SIZE = 500;
+  // 지문에 넣는 인기도 구간 크기
+  private static final double POPULARITY_BUCKET = 1.0;
+  // 런타임 수집 한 묶음(트랜잭션)의 영화 수
+  private static final int RUNTIME_BATCH_SIZE = 50;
+  // 런타임 수집 체크포인트 (마지막으로 저장한 묶음의 마지막 movie id)
+  private static final String RUNTIME_CHECKPOINT_KEY = "tmdb:runtime-backfill:checkpoint";
+  private static final Duration RUNTIME_CHECKPOINT_TTL = Duration.ofDays(14);
 
   private final MovieRepository movieRepository;
+  private final MovieBulkRepository movieBulkRepository;
   private final GenreRepository genreRepository;
   private final RestTemplate restTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final MeterRegistry meterRegistry;
 
-  @Transactional
-  public void fetchAndSaveMovies() {
+  // TMDB 목록 페이지 동시 요청 수
+  @Value("${tmdb.ingest-concurrency:4}")
+  private int ingestConcurrency;
+  private ExecutorService fetchExecutor;
+  // TMDB 요청 수 제한 (목록/상세 요청 공용, TMDB 허용량보다 낮게)
+  @Value("${tmdb.requests-per-second:20}")
+  private int requestsPerSecond;
+  private TokenBucket tmdbRateLimiter;
+  private final AtomicBoolean runtimeBackfillRunning = new AtomicBoolean();
 
-    int currentPage = 1;
-    int totalPages = 1;
-    Set<Long> fetchedTmdbIds = new HashSet<>();
+  @PostConstruct
+  public void init() {
+    tmdbRateLimiter = new TokenBucket(requestsPerSecond, requestsPerSecond);
+    AtomicInteger threadNumber = new AtomicInteger();
+    fetchExecutor = Executors.newFixedThreadPool(ingestConcurrency, runnable -> {
+      Thread thread = new Thread(runnable, "tmdb-fetch-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
 
-    // 기존에 존재하던 영화들은 Map에 넣어둠 (반복문에서 사용되지 않도록 밖으로 빼냄)
-    Map<Long, Movie> existingMovies = movieRepository.findAll().stream()
-        .collect(Collectors.toMap(Movie::getTmdbId, Function.identity()));
+  /**
+   * TMDB 에서 넷플릭스 제공 영화 목록 수집
+   * 첫 페이지로 전체 페이지 수를 확인한 뒤 나머지 페이지는 최대 ingestConcurrency 개씩 동시에 요청하고,
+   * 새 영화와 지문(인기도 구간/제공 여부/포스터/장르)이 바뀐 영화만 CHUNK_SIZE 개 단위 트랜잭션으로 배치 upsert
+   * @return 추가/변경/제공 중단된 영화 내역 (같은 내용으로 MovieCatalogUpdatedEvent 발행)
+   */
+  public MovieCatalogUpdatedEvent fetchAndSaveMovies() {
+    long startedAt = System.nanoTime();
 
     Map<Long, Genre> genreMap = genreRepository.findAll().stream()
         .collect(Collectors.toMap(Genre::getId, Function.identity()));
+    // 기존 영화는 엔티티 대신 TMDB ID 와 지문만 불러옴 (지문이 아직 없는 영화는 null)
+    Map<Long, Long> existingFingerprints = new HashMap<>();
+    for (Object[] row : movieRepository.findAllContentFingerprints()) {
+      existingFingerprints.put((Long) row[0], (Long) row[1]);
+    }
+    Set<Long> availableTmdbIds = new HashSet<>(movieRepository.findAvailableTmdbIds());
 
-    boolean hasNext = true;
-    while (hasNext) {
-      try {
-        // API 호출
-        String url = TMDB_MOVIE_API_URL + tmdbKey + "&page=" + currentPage;
-        ResponseEntity<MovieResponse> response = restTemplate.getForEntity(url, MovieResponse.class);
-
-        if (!response.getStatusCode().is2xxSuccessful() && response.getBody() == null) {
-          log.error("[TMDB_API_CALL] API로부터 응답을 받아오지 못했습니다.");
-          break;
-        }
+    Set<Long> fetchedTmdbIds = new HashSet<>();
+    Set<Long> addedTmdbIds = new HashSet<>();
+    Set<Long> changedTmdbIds = new HashSet<>();
+    Set<Long> removedTmdbIds = new HashSet<>();
+    Map<Long, Movie> chunk = new LinkedHashMap<>();
+    List<Future<MovieResponse>> inFlight = new ArrayList<>();
+    int fetchedPages = 0;
+    int totalPages = 0;
+    boolean completed = false;
 
-        MovieResponse movieResponse = response.getBody();
-        totalPages = movieResponse.getTotal_pages();
+    try {
+      MovieResponse firstPage = fetchPage(1);
+      totalPages = firstPage.getTotal_pages();
+      fetchedPages++;
+      collectMovies(firstPage, genreMap, existingFingerprints, fetchedTmdbIds, addedTmdbIds, changedTmdbIds, chunk);
 
-        // DTO에서 Entity로 변환 후 저장
-        List<Movie> movies = response.getBody().getResults().stream()
-            .map(movieDto -> toMovieEntity(movieDto, genreMap))
-            .toList();
+      CompletionService<MovieResponse> completionService = new ExecutorCompletionService<>(fetchExecutor);
+      int nextPage = 2;
+      while (nextPage <= totalPages && inFlight.size() < ingestConcurrency) {
+        int page = nextPage++;
+        inFlight.add(completionService.submit(() -> fetchPage(page)));
+      }
 
-        for (Movie movie : movies) {
-          fetchedTmdbIds.add(movie.getTmdbId());
+      while (!inFlight.isEmpty()) {
+        Future<MovieResponse> done = completionService.take();
+        inFlight.remove(done);
+        MovieResponse movieResponse = done.get();
+        fetchedPages++;
 
-          // 이미 DB에 존재하는 TMDB ID인지 확인
-          Movie existingMovie = existingMovies.get(movie.getTmdbId());
-          // 이미 존재한다면, 인기도와 현재 제공중인지 여부만 업데이트 후 저장
-          if (existingMovie != null) {
-            existingMovie.setPopularity(movie.getPopularity());
-            existingMovie.setAvailable(true);
-            movieRepository.save(existingMovie);
-          } else {
-            // 존재하지 않는다면 새로 저장
-            movieRepository.save(movie);
-          }
+        // 다음 페이지 요청을 먼저 보내고 DB 쓰기 (요청과 저장이 겹치도록)
+        if (nextPage <= totalPages) {
+          int page = nextPage++;
+          inFlight.add(completionService.submit(() -> fetchPage(page)));
         }
-        log.info("영화 정보가 DB에 성공적으로 저장되었습니다. 페이지 " + currentPage + "/" + totalPages);
 
-        currentPage++;
-        hasNext = currentPage <= totalPages;
-
-      } catch (RestClientException e) {
-        log.error("[TMDB_API_CALL] API 호출 실패", e);
-        break;
-      } catch (RuntimeException e) {
-        log.error("[TMDB_API_CALL] 예상치 못한 예외 발생", e);
-        break;
+        collectMovies(movieResponse, genreMap, existingFingerprints, fetchedTmdbIds, addedTmdbIds, changedTmdbIds, chunk);
+        if (chunk.size() >= CHUNK_SIZE) {
+          flushChunk(chunk);
+          log.info("영화 정보가 DB에 성공적으로 저장되었습니다. 페이지 " + fetchedPages + "/" + totalPages);
+        }
       }
+      flushChunk(chunk);
+      completed = true;
+
+    } catch (ExecutionException e) {
+      log.error("[TMDB_API_CALL] API 호출 실패", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("[TMDB_API_CALL] 영화 수집 중단", e);
+    } catch (RestClientException e) {
+      log.error("[TMDB_API_CALL] API 호출 실패", e);
+    } catch (RuntimeException e) {
+      log.error("[TMDB_API_CALL] 예상치 못한 예외 발생", e);
+    } finally {
+      inFlight.forEach(future -> future.cancel(true));
     }
 
     // DB에는 있지만 API에서 사라진 영화는 isAvailable = false로 변경
-    for (Movie movie : existingMovies.values()) {
-      if (!fetchedTmdbIds.contains(movie.getTmdbId()) && movie.isAvailable()) {
-        movie.changeAsUnavailable();
-        movieRepository.save(movie);
+    // 수집이 중간에 실패하면 받지 못한 페이지의 영화까지 내려가므로 전체 페이지를 받은 경우에만 처리
+    if (completed) {
+      availableTmdbIds.removeAll(fetchedTmdbIds);
+      movieBulkRepository.markUnavailable(availableTmdbIds);
+      removedTmdbIds.addAll(availableTmdbIds);
+    } else {
+      log.warn("[TMDB_API_CALL] 수집이 완료되지 않아 제공 중단 처리를 건너뜁니다. 페이지 {}/{}", fetchedPages, totalPages);
+    }
+
+    double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+    log.info("[TMDB_API_CALL] 영화 수집 종료 - 페이지 {}개, 영화 {}개, {}초 ({} pages/s, {} rows/s)",
+        fetchedPages, fetchedTmdbIds.size(), String.format("%.1f", seconds),
+        String.format("%.1f", fetchedPages / seconds), String.format("%.1f", fetchedTmdbIds.size() / seconds));
+    log.info("[TMDB_API_CALL] 변경 내역 - 추가 {}개, 변경 {}개, 제공 중단 {}개, 변경 없음 {}개",
+        addedTmdbIds.size(), changedTmdbIds.size(), removedTmdbIds.size(),
+        fetchedTmdbIds.size() - addedTmdbIds.size() - changedTmdbIds.size());
+
+    // 제목 검색 색인 등 갱신 (청크마다 커밋되므로 트랜잭션 밖에서 발행)
+    MovieCatalogUpdatedEvent changes = new MovieCatalogUpdatedEvent(addedTmdbIds, changedTmdbIds, removedTmdbIds);
+    eventPublisher.publishEvent(changes);
+    return changes;
+  }
+
+  // 목록 한 페이지 요청
+  private MovieResponse fetchPage(int page) throws InterruptedException {
+    tmdbRateLimiter.acquire();
+    String url = tmdbBaseUrl + TMDB_MOVIE_API_PATH + tmdbKey + "&page=" + page;
+    ResponseEntity<MovieResponse> response = restTemplate.getForEntity(url, MovieResponse.class);
+
+    if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+      throw new RestClientException("[TMDB_API_CALL] API로부터 응답을 받아오지 못했습니다. 페이지 " + page);
+    }
+    return response.getBody();
+  }
+
+  // DTO에서 Entity로 변환 후 새 영화와 지문이 바뀐 영화만 청크에 모음 (정렬 기준상 페이지 사이에 중복될 수 있어 TMDB ID 로 중복 제거)
+  private void collectMovies(MovieResponse movieResponse, Map<Long, Genre> genreMap, Map<Long, Long> existingFingerprints,
+      Set<Long> fetchedTmdbIds, Set<Long> addedTmdbIds, Set<Long> changedTmdbIds, Map<Long, Movie> chunk) {
+    for (MovieDTO movieDto : movieResponse.getResults()) {
+      if (!fetchedTmdbIds.add(movieDto.getId())) {
+        continue;
       }
+      Movie movie = toMovieEntity(movieDto, genreMap);
+      long fingerprint = contentFingerprint(movie);
+
+      if (!existingFingerprints.containsKey(movie.getTmdbId())) {
+        addedTmdbIds.add(movie.getTmdbId());
+      } else if (!Long.valueOf(fingerprint).equals(existingFingerprints.get(movie.getTmdbId()))) {
+        changedTmdbIds.add(movie.getTmdbId());
+      } else {
+        continue; // 바뀐 것이 없으면 쓰지 않음
+      }
+
+      applyDerivedColumns(movie);
+      movie.updateContentFingerprint(fingerprint);
+      chunk.put(movie.getTmdbId(), movie);
     }
   }
 
-  @Transactional
+  private void flushChunk(Map<Long, Movie> chunk) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    movieBulkRepository.upsertChunk(new ArrayList<>(chunk.values()));
+    chunk.clear();
+  }
+
+  /**
+   * 영화 내용 지문 (SHA-256 앞 8바이트)
+   * 인기도는 POPULARITY_BUCKET 단위 구간으로 넣어 소수점 아래 변동만으로는 다시 쓰지 않음
+   * 수집된 영화는 항상 제공 중이므로 제공 여부는 true 로 넣고, 제공 중단 시에는 지문을 비움
+   */
+  private long contentFingerprint(Movie movie) {
+    long popularityBucket = movie.getPopularity() == null ? -1 : (long) Math.floor(movie.getPopularity() / POPULARITY_BUCKET);
+    String genreIds = movie.getMovieGenres().stream()
+        .map(movieGenre -> movieGenre.getGenre().getId())
+        .sorted()
+        .map(String::valueOf)
+        .collect(Collectors.joining(","));
+    String content = popularityBucket + "|" + true + "|" + movie.getPosterPath() + "|" + genreIds;
+    return ByteBuffer.wrap(TokenHash.sha256(content)).getLong();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    fetchExecutor.shutdownNow();
+  }
+
+  /**
+   * 런타임 정보가 없는 영화의 런타임 수집
+   * 런타임이 없는 영화만 id 순서로 RUNTIME_BATCH_SIZE 개씩 조회(keyset)해서 상세 정보를 동시에 요청하고,
+   * 묶음마다 저장 후 마지막 영화 id 를 Redis 체크포인트로 남김 - 중간에 서버가 내려가도 다음 실행은 체크포인트부터 이어서 진행
+   */
   public void fetchMovieRunTime() {
-    List<Movie> movies = movieRepository.findAll();
+    if (!runtimeBackfillRunning.compareAndSet(false, true)) {
+      log.info("[TMDB_API_CALL] 런타임 수집이 이미 진행 중입니다.");
+      return;
+    }
 
-    for (Movie movie : movies) {
-      // 이미 런타임 정보가 있는 경우, continue
-      if (movie.getRuntime() != null && movie.getRuntime() > 0) {
-        continue;
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String result = "failed";
+    long afterId = 0L;
+    int updated = 0;
+    int missing = 0;
+    List<Future<Integer>> inFlight = new ArrayList<>();
+
+    try {
+      // 체크포인트 조회가 실패해도 finally 에서 실행 중 표시를 풀도록 try 안에서 읽음
+      afterId = loadRuntimeCheckpoint();
+      if (afterId > 0) {
+        log.info("[TMDB_API_CALL] 런타임 수집을 체크포인트부터 이어서 진행합니다. movie id > {}", afterId);
       }
 
-      try {
-        String runtimeUrl = TMDB_MOVIE_RUNTIME_API_URL + movie.getTmdbId() + "?api_key=" + tmdbKey;
-        ResponseEntity<MovieDTO> response = restTemplate.getForEntity(runtimeUrl, MovieDTO.class);
+      while (true) {
+        List<Object[]> movies = movieRepository.findRuntimeMissingAfter(afterId, PageRequest.of(0, RUNTIME_BATCH_SIZE));
+        if (movies.isEmpty()) {
+          break;
+        }
 
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-          Integer runtime = response.getBody().getRuntime();
-          movie.updateRuntime(runtime);
-          movieRepository.save(movie);
-        } else {
-          log.warn("[TMDB_API_CALL] 런타임 응답 실패 - " + movie.getTmdbId());
+        for (Object[] movie : movies) {
+          Long tmdbId = (Long) movie[1];
+          inFlight.add(fetchExecutor.submit(() -> fetchRuntime(tmdbId)));
         }
 
-      } catch (HttpClientErrorException e) {
-        log.warn("[TMDB_API_CALL] 런타임 정보를 찾을 수 없음: TMDB ID {}", movie.getTmdbId());
-      } catch (RestClientException e) {
-        log.error("[TMDB_API_CALL] 런타임 정보 요청 실패: TMDB ID {}", movie.getTmdbId(), e);
-      } catch (Exception e) {
-        log.error("[TMDB_API_CALL] 예기치 못한 예외 발생: TMDB ID {}", movie.getTmdbId(), e);
+        Map<Long, Integer> runtimes = new HashMap<>();
+        for (int i = 0; i < movies.size(); i++) {
+          Integer runtime = inFlight.get(i).get();
+          if (runtime != null && runtime > 0) {
+            runtimes.put((Long) movies.get(i)[0], runtime);
+          } else {
+            missing++;
+          }
+        }
+        inFlight.clear();
+
+        updated += movieBulkRepository.updateRuntimes(runtimes);
+        afterId = (Long) movies.get(movies.size() - 1)[0];
+        redisStringTemplate.opsForValue().set(RUNTIME_CHECKPOINT_KEY, String.valueOf(afterId), RUNTIME_CHECKPOINT_TTL);
       }
+
+      // 끝까지 돌았으면 다음 실행은 처음부터 (이번에 못 받은 영화 재시도)
+      redisStringTemplate.delete(RUNTIME_CHECKPOINT_KEY);
+      result = "completed";
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result = "interrupted";
+      log.warn("[TMDB_API_CALL] 런타임 수집 중단 - 체크포인트 movie id {}", afterId);
+    } catch (ExecutionException e) {
+      log.error("[TMDB_API_CALL] 런타임 수집 실패 - 체크포인트 movie id {}", afterId, e.getCause());
+    } catch (RuntimeException e) {
+      log.error("[TMDB_API_CALL] 예기치 못한 예외 발생 - 체크포인트 movie id {}", afterId, e);
+    } finally {
+      inFlight.forEach(future -> future.cancel(true));
+      long nanos = sample.stop(Timer.builder("tmdb.runtime.backfill.duration")
+          .description("런타임 수집 1회 실행 시간")
+          .tag("result", result)
+          .register(meterRegistry));
+      runtimeBackfillRunning.set(false);
+      log.info("[TMDB_API_CALL] 런타임 수집 종료({}) - 저장 {}개, 정보 없음 {}개, {}초",
+          result, updated, missing, TimeUnit.NANOSECONDS.toSeconds(nanos));
     }
   }
 
+  // 이전 실행이 중간에 끝나 남은 체크포인트가 있는지
+  public boolean hasRuntimeCheckpoint() {
+    return loadRuntimeCheckpoint() > 0;
+  }
+
+  private long loadRuntimeCheckpoint() {
+    String checkpoint = redisStringTemplate.opsForValue().get(RUNTIME_CHECKPOINT_KEY);
+    return checkpoint == null ? 0L : Long.parseLong(checkpoint);
+  }
+
+  // 영화 상세 정보에서 런타임 조회 (실패하면 null)
+  private Integer fetchRuntime(Long tmdbId) throws InterruptedException {
+    tmdbRateLimiter.acquire();
+    try {
+      String runtimeUrl = tmdbBaseUrl + TMDB_MOVIE_RUNTIME_API_PATH + tmdbId + "?api_key=" + tmdbKey;
+      ResponseEntity<MovieDTO> response = restTemplate.getForEntity(runtimeUrl, MovieDTO.class);
+
+      if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+        return response.getBody().getRuntime();
+      }
+      log.warn("[TMDB_API_CALL] 런타임 응답 실패 - " + tmdbId);
+
+    } catch (HttpClientErrorException e) {
+      log.warn("[TMDB_API_CALL] 런타임 정보를 찾을 수 없음: TMDB ID {}", tmdbId);
+    } catch (RestClientException e) {
+      log.error("[TMDB_API_CALL] 런타임 정보 요청 실패: TMDB ID {}", tmdbId, e);
+    }
+    return null;
+  }
+
+
+  /**
+   * 수집 시 계산하는 컬럼이 비어 있는 영화 채우기 (컬럼 추가 이전에 저장된 영화)
+   */
+  @Transactional
+  public void backfillDerivedColumns() {
+    List<Movie> movies = movieRepository.findByNormalizedTitleIsNull();
+    if (movies.isEmpty()) {
+      return;
+    }
+    movies.forEach(this::applyDerivedColumns);
+    log.info("[MOVIE] 정규화 제목/노출 여부 채우기 완료 - {}개", movies.size());
+  }
+
+  // 정규화 제목과 인기 목록 노출 여부 계산
+  private void applyDerivedColumns(Movie movie) {
+    movie.updateDerivedColumns(
+        TitleNormalizer.normalize(movie.getTitle()),
+        TitleNormalizer.normalize(movie.getOriginalTitle()),
+        isDisplayableTitle(movie.getTitle()));
+  }
+
+  // 제목에 한글이 있거나, 영문/숫자/일부 기호로 시작하는 경우만 노출
+  private boolean isDisplayableTitle(String title) {
+    if (title == null) {
+      return false;
+    }
+    return HANGUL_PATTERN.matcher(title).find() || LATIN_START_PATTERN.matcher(title).lookingAt();
+  }
 
   private Movie toMovieEntity(MovieDTO movieDTO, Map<Long, Genre> genreMap) {
     Movie movie = Movie.builder()
@@ -0,0 +1,133 @@
+package community.ddv.domain.movie.service;
+
+import community.ddv.domain.board.dto.ReviewRatingDTO;
+import community.ddv.domain.board.entity.RatingHistogram;
+import community.ddv.domain.board.repository.ReviewRepository;
+import community.ddv.domain.movie.entity.Movie;
+import community.ddv.domain.movie.entity.MovieRatingStats;
+import community.ddv.domain.movie.repostitory.MovieRatingStatsRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MovieRatingStatsService {
+
+  private final MovieRatingStatsRepository movieRatingStatsRepository;
+  private final ReviewRepository reviewRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  /**
+   * 특정 영화의 평균별점, 별점 분포 조회 (집계 테이블 PK 조회 1회)
+   * @param movie
+   */
+  @Transactional(readOnly = true)
+  public ReviewRatingDTO getRatingStats(Movie movie) {
+    RatingHistogram histogram = movieRatingStatsRepository.findById(movie.getId())
+        .map(MovieRatingStats::getHistogram)
+        .orElseGet(RatingHistogram::new);
+    return ReviewRatingDTO.from(histogram);
+  }
+
+  // 리뷰 작성 시 별점 반영
+  @Transactional
+  public void reviewCreated(Movie movie, Double rating) {
+    getOrCreateForUpdate(movie.getId()).addRating(rating);
+  }
+
+  // 리뷰 수정 시 기존 별점을 빼고 새 별점 반영
+  @Transactional
+  public void reviewUpdated(Movie movie, Double oldRating, Double newRating) {
+    if (Objects.equals(oldRating, newRating)) {
+      return;
+    }
+    getOrCreateForUpdate(movie.getId()).changeRating(oldRating, newRating);
+  }
+
+  // 리뷰 삭제 시 별점 제거
+  @Transactional
+  public void reviewDeleted(Movie movie, Double rating) {
+    getOrCreateForUpdate(movie.getId()).removeRating(rating);
+  }
+
+  /**
+   * 회원 탈퇴 시 함께 지워지는 리뷰들의 별점 제거
+   * 사용자를 지우기 전에 호출해야 리뷰를 알 수 있음
+   * @param userId
+   */
+  @Transactional
+  public void userDeleted(Long userId) {
+    // 영화 id 순서로 조회되므로 잠금도 id 순서
+    for (Object[] row : reviewRepository.countRatingsOfUserGroupByMovie(userId)) {
+      Long movieId = (Long) row[0];
+      Double rating = (Double) row[1];
+      long count = (Long) row[2];
+      getOrCreateForUpdate(movieId).getHistogram().apply(rating, -count);
+    }
+  }
+
+  // 행이 없으면 먼저 만들고 잠금 (조회 후 save 하면 첫 리뷰가 동시에 작성될 때 PK 중복 발생)
+  private MovieRatingStats getOrCreateForUpdate(Long movieId) {
+    movieRatingStatsRepository.insertIfAbsent(movieId);
+    return movieRatingStatsRepository.findForUpdate(movieId)
+        .orElseThrow(() -> new IllegalStateException("[RATING_STATS] 별점 집계 행 생성 실패 - movieId = " + movieId));
+  }
+
+  /**
+   * 리뷰 테이블 기준으로 전체 영화의 별점 집계 재계산
+   * 리뷰 작성/수정/삭제는 커밋 전에 집계 행을 잠그므로, 영화 묶음마다 행을 먼저 잠근 뒤 리뷰를 세면
+   * 그 사이의 증분 반영은 이미 센 값에 들어 있거나 재계산 이후에 더해져 유실되지 않음
+   */
+  public void rebuildAll() {
+    log.info("[RATING_STATS] 영화별 별점 집계 재계산 시작");
+
+    TreeSet<Long> movieIds = new TreeSet<>(movieRatingStatsRepository.findAllMovieIds());
+    movieIds.addAll(reviewRepository.findReviewedMovieIds());
+
+    List<Long> ids = new ArrayList<>(movieIds);
+    for (int from = 0; from < ids.size(); from += REBUILD_CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, ids.size()));
+      transactionTemplate.executeWithoutResult(status -> rebuildChunk(chunk));
+    }
+    log.info("[RATING_STATS] 영화별 별점 집계 재계산 완료 - 영화 수 = {}", ids.size());
+  }
+
+  // 잠금 이후에 리뷰를 읽어야 하므로 묶음마다 새 트랜잭션에서 잠금 → 집계 순서로 실행
+  private void rebuildChunk(List<Long> movieIds) {
+    movieIds.forEach(movieRatingStatsRepository::insertIfAbsent);
+    Map<Long, MovieRatingStats> statsByMovieId = new HashMap<>();
+    for (MovieRatingStats stats : movieRatingStatsRepository.findAllForUpdate(movieIds)) {
+      stats.resetRatings();
+      statsByMovieId.put(stats.getMovieId(), stats);
+    }
+
+    for (Object[] row : reviewRepository.countRatingsByMovieIds(movieIds)) {
+      Long movieId = (Long) row[0];
+      Double rating = (Double) row[1];
+      long count = (Long) row[2];
+      MovieRatingStats stats = statsByMovieId.get(movieId);
+      if (stats != null) {
+        stats.getHistogram().apply(rating, count);
+      }
+    }
+  }
+
+  // 집계 테이블이 비어 있는데 리뷰가 존재하는 경우 (최초 배포 등) 재계산
+  public void rebuildIfEmpty() {
+    if (movieRatingStatsRepository.count() == 0 && reviewRepository.count() > 0) {
+      rebuildAll();
+    }
+  }
+}
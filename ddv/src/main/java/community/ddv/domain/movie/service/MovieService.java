@@ -13,12 +13,16 @@ import community.ddv.domain.user.service.UserService;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,13 +37,15 @@ public class MovieService {
   private final ReviewService reviewService;
   private final UserService userService;
   private final ReviewRepository reviewRepository;
+  private final MovieTitleIndex movieTitleIndex;
+  private final MovieTitleAutocomplete movieTitleAutocomplete;
 
   /**
    * 넷플릭스 내 인기도 탑 n 영화 세부정보 조회
    * @param size
    */
   public List<MovieDTO> getTopMovies(int size) {
-    List<Movie> topMovies = movieRepository.findAllByAvailableIsTrueOrderByPopularityDesc(size);
+    List<Movie> topMovies = movieRepository.findTopDisplayableMovies(PageRequest.of(0, size));
     log.info("[MOVIE] 인기도 탑{} 영화 조회 성공", size);
     return topMovies.stream()
         .map(movie -> convertToDto(movie, null, reviewService.getRatingsByMovie(movie)))
@@ -63,7 +69,7 @@ public class MovieService {
   @Transactional(readOnly = true)
   public Page<MovieDTO> searchMoviesByTitle(String title, Pageable page) {
 
-    Page<Movie> movies = movieRepository.findByTitleFlexible(title, page);
+    Page<Movie> movies = findMoviesByTitle(title, page);
     if (movies.isEmpty()) {
       log.warn("[MOVIE] 키워드 '{}'를 포함하는 영화가 존재하지 않습니다.", title);
       return Page.empty(page);
@@ -78,6 +84,25 @@ public class MovieService {
   }
 
 
+  // 제목 검색 색인으로 해당 페이지의 영화 id 만 찾은 뒤 그 영화들만 조회 (색인 생성 전에는 DB 검색)
+  private Page<Movie> findMoviesByTitle(String title, Pageable page) {
+    MovieTitleIndex.SearchResult result = movieTitleIndex.search(title, page.getOffset(), page.getPageSize());
+    if (result == null) {
+      return movieRepository.findByTitleFlexible(TitleNormalizer.normalize(title), page);
+    }
+    if (result.getTmdbIds().isEmpty()) {
+      return new PageImpl<>(List.of(), page, result.getTotalCount());
+    }
+
+    Map<Long, Movie> moviesByTmdbId = movieRepository.findAllWithGenresByTmdbIdIn(result.getTmdbIds()).stream()
+        .collect(Collectors.toMap(Movie::getTmdbId, Function.identity()));
+    List<Movie> movies = result.getTmdbIds().stream()
+        .map(moviesByTmdbId::get)
+        .filter(Objects::nonNull)
+        .toList();
+    return new PageImpl<>(movies, page, result.getTotalCount());
+  }
+
   /**
    * 특정 영화 id로 해당 영화의 세부정보 조회
    * @param tmdbId
@@ -103,12 +128,16 @@ public class MovieService {
 
 
   /**
-   * 자동완성 5개 반환
+   * 자동완성 5개 반환 (초성 검색 지원, 색인 생성 전에는 DB 검색)
    */
   @Transactional(readOnly = true)
   public List<String> autoCompleteTitles(String keyword) {
+    List<String> suggestions = movieTitleAutocomplete.suggest(keyword);
+    if (suggestions != null) {
+      return suggestions;
+    }
     Pageable page = PageRequest.of(0, 5);
-    return movieRepository.find5AutocompleteTitles(keyword, page);
+    return movieRepository.find5AutocompleteTitles(TitleNormalizer.normalize(keyword), page);
   }
 
 
@@ -0,0 +1,226 @@
+package community.ddv.domain.movie.service;
+
+import community.ddv.domain.movie.event.MovieCatalogUpdatedEvent;
+import community.ddv.domain.movie.repostitory.MovieRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 영화 제목 자동완성용 압축 trie (메모리)
+ * - 정규화된 제목(공백 제거, 소문자)과 제목 속 각 단어에서 시작하는 부분을 key 로 넣음 ("어벤져스: 엔드게임" → "어벤져스:엔드게임", "엔드게임")
+ * - 초성 trie 를 따로 두어 "ㅇㅂㅈㅅ" 처럼 초성만 입력한 경우도 검색
+ * - 노드마다 그 아래 제목 중 인기도 상위 5개를 미리 저장 → 검색은 입력 길이만큼만 내려가면 끝 (DB 조회 없음)
+ * 영화 정보 수집이 끝나면 별도 스레드에서 새로 만들어 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieTitleAutocomplete {
+
+  private static final int SUGGESTION_COUNT = 5;
+  private static final char[] CHOSUNG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+  private final MovieRepository movieRepository;
+
+  private ExecutorService rebuildExecutor;
+  private volatile Snapshot snapshot; // 만들어지기 전에는 null
+
+  @PostConstruct
+  public void init() {
+    rebuildExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("movie-autocomplete-"));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onMovieCatalogUpdated(MovieCatalogUpdatedEvent event) {
+    if (!event.changesTitlesOrRanking()) {
+      return; // 제목/인기도 순서가 그대로면 다시 만들 필요 없음
+    }
+    rebuildAsync();
+  }
+
+  public void rebuildAsync() {
+    rebuildExecutor.execute(() -> {
+      try {
+        rebuild();
+      } catch (RuntimeException e) {
+        log.error("[MOVIE] 자동완성 색인 생성 실패", e);
+      }
+    });
+  }
+
+  // 색인 생성 (rebuildAsync 의 작업, 테스트에서는 직접 호출)
+  void rebuild() {
+    long start = System.currentTimeMillis();
+    List<Object[]> rows = movieRepository.findAllTitleEntries(); // 인기도 내림차순
+
+    String[] titles = new String[rows.size()];
+    MutableNode titleRoot = new MutableNode();
+    MutableNode chosungRoot = new MutableNode();
+
+    // 인기도 순서대로 넣으므로 노드마다 먼저 들어온 5개가 곧 인기도 상위 5개
+    for (int doc = 0; doc < rows.size(); doc++) {
+      String title = (String) rows.get(doc)[1];
+      titles[doc] = title;
+      for (String key : keys(title)) {
+        titleRoot.insert(key.codePoints().toArray(), doc);
+        chosungRoot.insert(toChosung(key).codePoints().toArray(), doc);
+      }
+    }
+
+    snapshot = new Snapshot(titles, titleRoot.freeze(), chosungRoot.freeze());
+    log.info("[MOVIE] 자동완성 색인 생성 완료 - 영화 수 = {}, 소요시간 = {}ms",
+        titles.length, System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 자동완성 제목 (인기도 상위 5개)
+   * @return 색인이 아직 없으면 null
+   */
+  public List<String> suggest(String keyword) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return null;
+    }
+
+    String query = TitleNormalizer.normalize(keyword);
+    FrozenNode root = isChosungOnly(query) ? current.chosungRoot : current.titleRoot;
+    int[] docs = root.find(query.codePoints().toArray());
+
+    List<String> titles = new ArrayList<>(docs.length);
+    for (int doc : docs) {
+      titles.add(current.titles[doc]);
+    }
+    return titles;
+  }
+
+  // 정규화된 전체 제목 + 각 단어부터 시작하는 부분
+  private static Set<String> keys(String title) {
+    Set<String> keys = new LinkedHashSet<>();
+    if (title == null) {
+      return keys;
+    }
+    String[] words = title.trim().split("\\s+");
+    for (int i = 0; i < words.length; i++) {
+      String key = TitleNormalizer.normalize(String.join("", Arrays.copyOfRange(words, i, words.length)));
+      if (!key.isEmpty()) {
+        keys.add(key);
+      }
+    }
+    return keys;
+  }
+
+  // 완성형 한글은 초성으로, 나머지 문자는 그대로
+  static String toChosung(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    text.codePoints().forEach(codePoint -> {
+      if (codePoint >= 0xAC00 && codePoint <= 0xD7A3) {
+        sb.append(CHOSUNG[(codePoint - 0xAC00) / 588]);
+      } else {
+        sb.appendCodePoint(codePoint);
+      }
+    });
+    return sb.toString();
+  }
+
+  private static boolean isChosungOnly(String query) {
+    return !query.isEmpty() && query.codePoints().allMatch(codePoint -> codePoint >= 0x3131 && codePoint <= 0x314E);
+  }
+
+  private record Snapshot(String[] titles, FrozenNode titleRoot, FrozenNode chosungRoot) {
+  }
+
+  // 생성 중에만 쓰는 일반 trie 노드
+  private static class MutableNode {
+    private final Map<Integer, MutableNode> children = new TreeMap<>();
+    private final List<Integer> top = new ArrayList<>(SUGGESTION_COUNT);
+    private boolean terminal;
+
+    void insert(int[] key, int doc) {
+      MutableNode node = this;
+      node.addTop(doc);
+      for (int codePoint : key) {
+        node = node.children.computeIfAbsent(codePoint, k -> new MutableNode());
+        node.addTop(doc);
+      }
+      node.terminal = true;
+    }
+
+    private void addTop(int doc) {
+      if (top.size() < SUGGESTION_COUNT && !top.contains(doc)) {
+        top.add(doc);
+      }
+    }
+
+    // 자식이 하나뿐이고 끝나는 key 가 없는 노드들을 간선 하나로 합침
+    FrozenNode freeze() {
+      int size = children.size();
+      int[] firstCodePoints = new int[size];
+      int[][] labels = new int[size][];
+      FrozenNode[] frozenChildren = new FrozenNode[size];
+
+      int i = 0;
+      for (Map.Entry<Integer, MutableNode> entry : children.entrySet()) {
+        List<Integer> label = new ArrayList<>();
+        label.add(entry.getKey());
+        MutableNode child = entry.getValue();
+        while (!child.terminal && child.children.size() == 1) {
+          Map.Entry<Integer, MutableNode> only = child.children.entrySet().iterator().next();
+          label.add(only.getKey());
+          child = only.getValue();
+        }
+        firstCodePoints[i] = entry.getKey();
+        labels[i] = label.stream().mapToInt(Integer::intValue).toArray();
+        frozenChildren[i] = child.freeze();
+        i++;
+      }
+      return new FrozenNode(firstCodePoints, labels, frozenChildren,
+          top.stream().mapToInt(Integer::intValue).toArray());
+    }
+  }
+
+  // 검색용 압축 trie 노드 (간선마다 여러 글자)
+  private record FrozenNode(int[] firstCodePoints, int[][] labels, FrozenNode[] children, int[] top) {
+
+    int[] find(int[] query) {
+      FrozenNode node = this;
+      int position = 0;
+      while (position < query.length) {
+        int index = Arrays.binarySearch(node.firstCodePoints, query[position]);
+        if (index < 0) {
+          return new int[0];
+        }
+        int[] label = node.labels[index];
+        for (int j = 0; j < label.length && position < query.length; j++, position++) {
+          if (label[j] != query[position]) {
+            return new int[0];
+          }
+        }
+        // 간선 중간에서 끝나도 그 아래 제목 집합은 간선 끝 노드와 같음
+        node = node.children[index];
+      }
+      return node.top;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package community.ddv.domain.movie.service;
+
+import community.ddv.domain.movie.event.MovieCatalogUpdatedEvent;
+import community.ddv.domain.movie.repostitory.MovieRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 영화 제목 부분 검색용 n-gram 역색인 (메모리)
+ * - 제목/원제를 정규화(TitleNormalizer)한 뒤 1~3글자 n-gram 별로 영화 목록(posting)을 만듦
+ * - 영화 번호는 인기도 내림차순 순위라서 posting 을 앞에서부터 읽으면 그대로 인기도 순
+ * - 검색어가 3글자 이하면 해당 n-gram 의 posting 이 곧 결과, 더 길면 3-gram posting 의 교집합을 실제 포함 여부로 확인
+ * 영화 정보 수집이 끝나면 새로 만들어 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieTitleIndex {
+
+  private static final int MAX_GRAM = 3;
+
+  private final MovieRepository movieRepository;
+
+  private volatile Snapshot snapshot; // 만들어지기 전에는 null
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onMovieCatalogUpdated(MovieCatalogUpdatedEvent event) {
+    if (!event.changesTitlesOrRanking()) {
+      return; // 제목/인기도 순서가 그대로면 다시 만들 필요 없음
+    }
+    rebuild();
+  }
+
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    List<Object[]> rows = movieRepository.findAllTitleEntries();
+
+    int size = rows.size();
+    long[] tmdbIds = new long[size];
+    String[] titles = new String[size];
+    String[] originalTitles = new String[size];
+    Map<String, List<Integer>> postings = new HashMap<>();
+
+    for (int doc = 0; doc < size; doc++) {
+      Object[] row = rows.get(doc);
+      tmdbIds[doc] = (Long) row[0];
+      titles[doc] = TitleNormalizer.normalize((String) row[1]);
+      originalTitles[doc] = TitleNormalizer.normalize((String) row[2]);
+
+      Set<String> grams = new HashSet<>();
+      addGrams(titles[doc], grams);
+      addGrams(originalTitles[doc], grams);
+      for (String gram : grams) {
+        postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(doc);
+      }
+    }
+
+    Map<String, int[]> postingArrays = new HashMap<>(postings.size() * 2);
+    postings.forEach((gram, docs) -> postingArrays.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+    snapshot = new Snapshot(tmdbIds, titles, originalTitles, postingArrays);
+    log.info("[MOVIE] 제목 검색 색인 생성 완료 - 영화 수 = {}, n-gram 수 = {}, 소요시간 = {}ms",
+        size, postingArrays.size(), System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 제목/원제에 검색어가 포함된 영화 (공백 무시, 인기도순)
+   * @return 색인이 아직 없으면 null
+   */
+  public SearchResult search(String keyword, long offset, int limit) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return null;
+    }
+
+    String query = TitleNormalizer.normalize(keyword);
+    int[] matches = current.match(query);
+
+    List<Long> tmdbIds = new ArrayList<>(Math.min(limit, matches.length));
+    for (long i = offset; i < matches.length && tmdbIds.size() < limit; i++) {
+      tmdbIds.add(current.tmdbIds[matches[(int) i]]);
+    }
+    return new SearchResult(tmdbIds, matches.length);
+  }
+
+  private static void addGrams(String text, Set<String> grams) {
+    int[] codePoints = text.codePoints().toArray();
+    for (int length = 1; length <= MAX_GRAM; length++) {
+      for (int i = 0; i + length <= codePoints.length; i++) {
+        grams.add(new String(codePoints, i, length));
+      }
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class SearchResult {
+    private final List<Long> tmdbIds; // 요청한 페이지의 영화 (인기도순)
+    private final long totalCount;
+  }
+
+  @RequiredArgsConstructor
+  private static class Snapshot {
+    private final long[] tmdbIds;
+    private final String[] titles;
+    private final String[] originalTitles;
+    private final Map<String, int[]> postings;
+
+    // 검색어를 포함하는 영화 번호 (오름차순 = 인기도순)
+    int[] match(String query) {
+      int[] codePoints = query.codePoints().toArray();
+
+      // 빈 검색어는 전체 (기존 LIKE '%%' 와 동일)
+      if (codePoints.length == 0) {
+        int[] all = new int[tmdbIds.length];
+        Arrays.setAll(all, i -> i);
+        return all;
+      }
+
+      if (codePoints.length <= MAX_GRAM) {
+        return postings.getOrDefault(query, new int[0]);
+      }
+
+      Set<String> grams = new LinkedHashSet<>();
+      for (int i = 0; i + MAX_GRAM <= codePoints.length; i++) {
+        grams.add(new String(codePoints, i, MAX_GRAM));
+      }
+      List<int[]> lists = new ArrayList<>(grams.size());
+      for (String gram : grams) {
+        int[] posting = postings.get(gram);
+        if (posting == null) {
+          return new int[0];
+        }
+        lists.add(posting);
+      }
+      lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+      int[] smallest = lists.get(0);
+      int[] result = new int[smallest.length];
+      int count = 0;
+      for (int doc : smallest) {
+        if (containsInAll(lists, doc) && (titles[doc].contains(query) || originalTitles[doc].contains(query))) {
+          result[count++] = doc;
+        }
+      }
+      return Arrays.copyOf(result, count);
+    }
+
+    private static boolean containsInAll(List<int[]> lists, int doc) {
+      for (int i = 1; i < lists.size(); i++) {
+        if (Arrays.binarySearch(lists.get(i), doc) < 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
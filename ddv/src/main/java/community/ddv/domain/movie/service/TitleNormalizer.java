@@ -0,0 +1,25 @@
+package community.ddv.domain.movie.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 영화 제목 검색용 정규화 : 유니코드 NFC (자모 분리 입력 → 완성형 한글), 공백 제거, 소문자
+ */
+public final class TitleNormalizer {
+
+  private TitleNormalizer() {
+  }
+
+  public static String normalize(String title) {
+    if (title == null) {
+      return "";
+    }
+    String composed = Normalizer.normalize(title, Normalizer.Form.NFC);
+    StringBuilder sb = new StringBuilder(composed.length());
+    composed.codePoints()
+        .filter(codePoint -> !Character.isWhitespace(codePoint) && !Character.isSpaceChar(codePoint))
+        .forEach(sb::appendCodePoint);
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+}
@@ -1,6 +1,7 @@
 package community.ddv.domain.notification;
 
 import community.ddv.domain.user.entity.User;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -36,6 +37,11 @@ public class Notification {
 
   private boolean isRead; // 확인 여부
 
+  // 묶인 이벤트 수 (좋아요 묶음 알림 : N명이 좋아요)
+  @Column(nullable = false, columnDefinition = "int default 1")
+  @Builder.Default
+  private int count = 1;
+
   public void markAsRead() {
     isRead = true;
   }
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,9 +31,10 @@ public class NotificationController {
   // 클라이언트가 SSE 연결 구독
   @Operation(summary = "SSE 연결 구독")
   @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  public SseEmitter subscribe() {
+  public SseEmitter subscribe(
+      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
     Long userId = userService.getLoginUser().getId();
-    return notificationService.subscribe(userId);
+    return notificationService.subscribe(userId, lastEventId);
   }
 
   @Operation(summary = "알림 목록 조회")
@@ -0,0 +1,21 @@
+package community.ddv.domain.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 알림 전달용 메시지 (Redis pub/sub)
+ * payload : 클라이언트에게 그대로 전달할 NotificationResponseDTO JSON
+ * eventName : 이름 있는 이벤트(읽지 않은 알림 수 등)면 이벤트 이름, 알림이면 null
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationMessage {
+  private Long userId;
+  private Long eventId;
+  private String payload;
+  private long publishedAt; // epoch millis
+  private String eventName;
+}
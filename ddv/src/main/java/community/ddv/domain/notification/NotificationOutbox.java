@@ -0,0 +1,47 @@
+package community.ddv.domain.notification;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 생성되지 않은 알림 (transactional outbox)
+ * 좋아요/댓글과 같은 트랜잭션에서 저장되고, NotificationOutboxDispatcher 가 Notification 으로 옮긴 뒤 삭제
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_notification_outbox_type_created_at", columnList = "notificationType, createdAt"),
+    @Index(name = "idx_notification_outbox_type_group", columnList = "notificationType, receiverId, relatedId, createdAt")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  private Long receiverId; // 알림 받는 사람
+
+  private Long senderId; // 알림을 발생시킨 사람 (좋아요 누른 사람, 댓글 작성자)
+
+  @Enumerated(EnumType.STRING)
+  private NotificationType notificationType;
+
+  private Long relatedId; // 알림대상(리뷰, 인증 id)
+
+  private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,214 @@
+package community.ddv.domain.notification;
+
+import community.ddv.domain.user.repository.UserRepository;
+import community.ddv.global.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 에 쌓인 알림을 모아서 Notification 으로 저장하고 SSE 전송
+ * 좋아요/댓글 요청은 outbox insert 한 번만 하고, 알림 생성/전송 비용은 여기서 부담
+ * 좋아요는 묶음 대기 시간(like-digest-window) 동안 (리뷰 작성자, 리뷰) 별로 모아 "N명이 좋아요" 알림 하나로 생성
+ * 0.5초마다 전용 스레드에서 실행 (@Scheduled 기본 스레드 하나를 쓰는 영화 크롤링 등 긴 작업에 밀리지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+  private static final int BATCH_SIZE = 500;
+  private static final long DISPATCH_INTERVAL = 500L;
+  private static final String INSERT_NOTIFICATION_SQL =
+      "INSERT INTO notification (user_id, notification_type, related_id, is_read, count, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final UserRepository userRepository;
+  private final NotificationPublisher notificationPublisher;
+  private final NotificationUnreadCounter notificationUnreadCounter;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${notification.like-digest-window-seconds:60}")
+  private long likeDigestWindowSeconds;
+
+  private ScheduledExecutorService dispatchScheduler;
+
+  @PostConstruct
+  public void init() {
+    dispatchScheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("notification-outbox-"));
+    dispatchScheduler.scheduleWithFixedDelay(this::runDispatch,
+        DISPATCH_INTERVAL, DISPATCH_INTERVAL, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatchScheduler.shutdownNow();
+  }
+
+  // 예외가 나가면 이후 실행이 모두 취소되므로 기록만 하고 다음 주기에 다시 시도
+  private void runDispatch() {
+    try {
+      transactionTemplate.executeWithoutResult(status -> dispatch());
+    } catch (RuntimeException e) {
+      log.warn("[NOTIFICATION] outbox 처리 실패 - 다음 주기에 재시도", e);
+    }
+  }
+
+  private void dispatch() {
+    List<NotificationOutbox> immediate = notificationOutboxRepository.findBatchForDispatch(
+        NotificationType.NEW_LIKE, PageRequest.of(0, BATCH_SIZE));
+    List<NotificationOutbox> likes = notificationOutboxRepository.findBatchForDigest(
+        NotificationType.NEW_LIKE, LocalDateTime.now().minusSeconds(likeDigestWindowSeconds),
+        PageRequest.of(0, BATCH_SIZE));
+    if (immediate.isEmpty() && likes.isEmpty()) {
+      return;
+    }
+
+    List<PendingNotification> pending = new ArrayList<>();
+    immediate.forEach(outbox -> pending.add(new PendingNotification(outbox)));
+    pending.addAll(groupLikes(likes));
+
+    // outbox 저장 이후 탈퇴한 사용자의 알림은 버림
+    Set<Long> existingUserIds = userRepository.findExistingIds(
+        pending.stream().map(PendingNotification::getReceiverId).collect(Collectors.toSet()));
+    List<PendingNotification> deliverable = pending.stream()
+        .filter(notification -> existingUserIds.contains(notification.getReceiverId()))
+        .collect(Collectors.toList());
+
+    List<NotificationResponseDTO> notifications = insertNotifications(deliverable);
+
+    List<Long> processedIds = new ArrayList<>(immediate.size() + likes.size());
+    immediate.forEach(outbox -> processedIds.add(outbox.getId()));
+    likes.forEach(outbox -> processedIds.add(outbox.getId()));
+    notificationOutboxRepository.deleteAllByIdInBatch(processedIds);
+
+    // 커밋된 알림만 전송
+    AfterCommit.run(() -> {
+      for (int i = 0; i < notifications.size(); i++) {
+        notificationPublisher.publish(deliverable.get(i).getReceiverId(), notifications.get(i));
+      }
+    });
+
+    // 수신자별 읽지 않은 알림 수 증가 (알림 전송 뒤 커밋 후 반영)
+    deliverable.stream()
+        .collect(Collectors.groupingBy(PendingNotification::getReceiverId, Collectors.counting()))
+        .forEach(notificationUnreadCounter::added);
+
+    log.info("[NOTIFICATION] outbox 처리 완료 - 처리 = {}, 생성 = {}", processedIds.size(), notifications.size());
+  }
+
+  // (리뷰 작성자, 리뷰) 별로 좋아요를 묶음 (같은 사람이 취소 후 다시 누른 경우는 한 명으로)
+  private List<PendingNotification> groupLikes(List<NotificationOutbox> likes) {
+    Map<List<Long>, PendingNotification> digests = new LinkedHashMap<>();
+    for (NotificationOutbox outbox : likes) {
+      digests.computeIfAbsent(List.of(outbox.getReceiverId(), outbox.getRelatedId()),
+          key -> new PendingNotification(outbox)).add(outbox);
+    }
+    return new ArrayList<>(digests.values());
+  }
+
+  // JDBC batch insert 후 생성된 id 로 응답 DTO 구성 (pending 순서와 같음)
+  private List<NotificationResponseDTO> insertNotifications(List<PendingNotification> pending) {
+    if (pending.isEmpty()) {
+      return List.of();
+    }
+
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            PendingNotification notification = pending.get(i);
+            ps.setLong(1, notification.getReceiverId());
+            ps.setString(2, notification.getNotificationType().name());
+            ps.setLong(3, notification.getRelatedId());
+            ps.setBoolean(4, false);
+            ps.setInt(5, notification.getCount());
+            ps.setTimestamp(6, Timestamp.valueOf(notification.getCreatedAt()));
+          }
+
+          @Override
+          public int getBatchSize() {
+            return pending.size();
+          }
+        },
+        keyHolder);
+
+    List<Map<String, Object>> keys = keyHolder.getKeyList();
+    List<NotificationResponseDTO> notifications = new ArrayList<>(pending.size());
+    for (int i = 0; i < pending.size(); i++) {
+      PendingNotification notification = pending.get(i);
+      Number notificationId = (Number) keys.get(i).values().iterator().next();
+      notifications.add(NotificationResponseDTO.builder()
+          .notificationId(notificationId.longValue())
+          .notificationType(notification.getNotificationType())
+          .message(notification.getNotificationType().getMessage(notification.getCount()))
+          .relatedId(notification.getRelatedId())
+          .isRead(false)
+          .count(notification.getCount())
+          .createdAt(notification.getCreatedAt())
+          .build());
+    }
+    return notifications;
+  }
+
+  /**
+   * 생성할 알림 하나 (좋아요 묶음이면 여러 outbox 행)
+   */
+  @Getter
+  private static class PendingNotification {
+    private final Long receiverId;
+    private final NotificationType notificationType;
+    private final Long relatedId;
+    private final Set<Long> senderIds = new HashSet<>();
+    private LocalDateTime createdAt;
+
+    PendingNotification(NotificationOutbox outbox) {
+      this.receiverId = outbox.getReceiverId();
+      this.notificationType = outbox.getNotificationType();
+      this.relatedId = outbox.getRelatedId();
+      this.createdAt = outbox.getCreatedAt();
+      this.senderIds.add(outbox.getSenderId());
+    }
+
+    void add(NotificationOutbox outbox) {
+      senderIds.add(outbox.getSenderId());
+      if (outbox.getCreatedAt().isAfter(createdAt)) {
+        createdAt = outbox.getCreatedAt(); // 가장 최근 좋아요 시각
+      }
+    }
+
+    int getCount() {
+      return senderIds.size();
+    }
+  }
+}
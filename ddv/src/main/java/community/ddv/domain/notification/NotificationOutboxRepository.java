@@ -0,0 +1,48 @@
+package community.ddv.domain.notification;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  // 여러 서버가 동시에 처리해도 같은 행을 가져가지 않도록 SKIP LOCKED (lock.timeout = -2)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT o FROM NotificationOutbox o WHERE o.notificationType <> :excludedType ORDER BY o.id")
+  List<NotificationOutbox> findBatchForDispatch(
+      @Param("excludedType") NotificationType excludedType,
+      Pageable pageable);
+
+  // 가장 오래된 행이 묶음 대기 시간을 넘긴 (받는 사람, 대상) 묶음의 알림 전체
+  // 행마다 대기 시간을 따로 재면 좋아요가 이어지는 동안 한 묶음이 여러 알림으로 쪼개지므로, 묶음 단위로 가져감
+  // 묶음이 페이지 경계에서 잘리지 않도록 묶음 순서로 정렬
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("""
+      SELECT o FROM NotificationOutbox o
+      WHERE o.notificationType = :notificationType
+      AND EXISTS (
+        SELECT 1 FROM NotificationOutbox first
+        WHERE first.notificationType = :notificationType
+        AND first.receiverId = o.receiverId
+        AND first.relatedId = o.relatedId
+        AND first.createdAt <= :cutoff
+      )
+      ORDER BY o.receiverId, o.relatedId, o.id
+""")
+  List<NotificationOutbox> findBatchForDigest(
+      @Param("notificationType") NotificationType notificationType,
+      @Param("cutoff") LocalDateTime cutoff,
+      Pageable pageable);
+
+}
@@ -0,0 +1,172 @@
+package community.ddv.domain.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import community.ddv.domain.notification.SseEmitterService.DeliveryResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림을 수신자의 SSE 연결을 가진 노드로 전달
+ * - 수신자가 이 노드에 연결되어 있으면 바로 전송
+ * - 다른 노드에 연결되어 있으면 해당 노드 채널(sse:node:{nodeId})로 publish
+ * - 실제 전송은 SseEmitterService 의 전송 스레드에서 이뤄지며, 결과는 콜백으로 집계
+ * - 어디에도 연결되어 있지 않으면 전송하지 않음 (알림은 DB에 저장되어 있으므로 목록 조회로 확인 가능)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPublisher {
+
+  private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+  private static final String UNREAD_COUNT_EVENT = "unread-count";
+
+  private final SseEmitterService sseEmitterService;
+  private final SseReplayBuffer sseReplayBuffer;
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private Timer deliveryLatency;
+  private final Map<DeliveryResult, Counter> deliveryCounters = new EnumMap<>(DeliveryResult.class);
+
+  @PostConstruct
+  public void init() {
+    deliveryLatency = Timer.builder("notification.sse.delivery.latency")
+        .description("알림 publish 부터 SSE 전송까지 걸린 시간")
+        .register(meterRegistry);
+    for (DeliveryResult result : DeliveryResult.values()) {
+      deliveryCounters.put(result, Counter.builder("notification.sse.delivery")
+          .description("SSE 알림 전송 결과")
+          .tag("result", result.name().toLowerCase())
+          .register(meterRegistry));
+    }
+
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> onMessage(message),
+        new ChannelTopic(NODE_CHANNEL_PREFIX + sseEmitterService.getNodeId()));
+  }
+
+  /**
+   * 알림 전송 (수신자의 연결이 있는 노드로 라우팅)
+   * @param userId
+   * @param notificationResponseDTO
+   */
+  public void publish(Long userId, NotificationResponseDTO notificationResponseDTO) {
+    long publishedAt = System.currentTimeMillis();
+
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(notificationResponseDTO);
+    } catch (JsonProcessingException e) {
+      log.error("[NOTIFICATION] 알림 직렬화 실패 : userId = {}, error = {}", userId, e.getMessage());
+      record(DeliveryResult.FAILED, publishedAt);
+      return;
+    }
+
+    // 재연결 시 재전송할 수 있도록 연결 여부와 관계없이 버퍼에 기록
+    Long eventId = sseReplayBuffer.append(userId, payload);
+
+    String ownerNode = findOwnerNode(userId);
+    if (ownerNode == null) {
+      record(DeliveryResult.OFFLINE, publishedAt);
+      return;
+    }
+
+    if (ownerNode.equals(sseEmitterService.getNodeId())) {
+      sseEmitterService.sendToLocal(userId, eventId, payload, result -> record(result, publishedAt));
+      return;
+    }
+
+    try {
+      String message = objectMapper.writeValueAsString(new NotificationMessage(userId, eventId, payload, publishedAt, null));
+      redisStringTemplate.convertAndSend(NODE_CHANNEL_PREFIX + ownerNode, message);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error("[NOTIFICATION] 알림 publish 실패 : userId = {}, node = {}, error = {}", userId, ownerNode, e.getMessage());
+      record(DeliveryResult.FAILED, publishedAt);
+    }
+  }
+
+  /**
+   * 읽지 않은 알림 수 전송 (unread-count 이벤트, 연결되어 있지 않으면 보내지 않음)
+   * 재전송 버퍼에 넣지 않으므로 Last-Event-ID 에 영향을 주지 않고, 재연결 시에는 구독 직후 현재 값을 다시 보냄
+   * @param userId
+   * @param unreadCount
+   */
+  public void publishUnreadCount(Long userId, long unreadCount) {
+    String payload = "{\"unreadCount\":" + unreadCount + "}";
+
+    String ownerNode = findOwnerNode(userId);
+    if (ownerNode == null) {
+      return;
+    }
+    if (ownerNode.equals(sseEmitterService.getNodeId())) {
+      sseEmitterService.sendNamedToLocal(userId, UNREAD_COUNT_EVENT, payload);
+      return;
+    }
+
+    try {
+      String message = objectMapper.writeValueAsString(
+          new NotificationMessage(userId, null, payload, System.currentTimeMillis(), UNREAD_COUNT_EVENT));
+      redisStringTemplate.convertAndSend(NODE_CHANNEL_PREFIX + ownerNode, message);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("[NOTIFICATION] 읽지 않은 알림 수 publish 실패 : userId = {}, node = {}, error = {}", userId, ownerNode, e.getMessage());
+    }
+  }
+
+  // 수신자가 연결된 노드 id (연결되어 있지 않으면 null)
+  private String findOwnerNode(Long userId) {
+    try {
+      return sseEmitterService.findOwnerNode(userId);
+    } catch (RuntimeException e) {
+      // Redis 장애 시에는 이 노드의 연결에만 전송 시도
+      log.warn("[NOTIFICATION] 연결 노드 조회 실패 - 로컬 전송 시도 : userId = {}, error = {}", userId, e.getMessage());
+      return sseEmitterService.getNodeId();
+    }
+  }
+
+  // 다른 노드에서 publish 한 알림 수신 → 이 노드의 emitter 로 전송
+  private void onMessage(Message message) {
+    NotificationMessage notificationMessage;
+    try {
+      notificationMessage = objectMapper.readValue(
+          new String(message.getBody(), StandardCharsets.UTF_8), NotificationMessage.class);
+    } catch (JsonProcessingException e) {
+      log.error("[NOTIFICATION] 알림 메시지 역직렬화 실패 : error = {}", e.getMessage());
+      deliveryCounters.get(DeliveryResult.FAILED).increment();
+      return;
+    }
+
+    if (notificationMessage.getEventName() != null) {
+      sseEmitterService.sendNamedToLocal(notificationMessage.getUserId(), notificationMessage.getEventName(),
+          notificationMessage.getPayload());
+      return;
+    }
+
+    long publishedAt = notificationMessage.getPublishedAt();
+    sseEmitterService.sendToLocal(notificationMessage.getUserId(), notificationMessage.getEventId(),
+        notificationMessage.getPayload(),
+        result -> record(result, publishedAt));
+  }
+
+  private void record(DeliveryResult result, long publishedAt) {
+    deliveryCounters.get(result).increment();
+    if (result == DeliveryResult.DELIVERED) {
+      deliveryLatency.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - publishedAt)));
+    }
+  }
+}
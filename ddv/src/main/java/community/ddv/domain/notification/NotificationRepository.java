@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -34,8 +36,24 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
       Pageable pageable
   );
 
-  List<Notification> findByUser_IdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
-  boolean existsByUser_IdAndIsReadFalse(Long userId);
+  long countByUser_IdAndIsReadFalse(Long userId);
   void deleteByCreatedAtBefore(LocalDateTime notificationResetDay);
 
+  // 읽지 않은 알림 하나 읽음 처리 (이미 읽은 알림이면 0)
+  // 읽지 않은 알림 수를 커밋된 값 기준으로 갱신할 수 있도록 자체 트랜잭션으로 실행
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId AND n.user.id = :userId AND n.isRead = false")
+  int markAsRead(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+
+  // 사용자의 읽지 않은 알림 전체를 UPDATE 한 번으로 읽음 처리
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+  int markAllAsRead(@Param("userId") Long userId);
+
+  // 삭제 대상 중 읽지 않은 알림이 있는 사용자 (삭제 후 읽지 않은 알림 수 재계산용)
+  @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.createdAt < :createdAt AND n.isRead = false")
+  List<Long> findUserIdsWithUnreadBefore(@Param("createdAt") LocalDateTime createdAt);
+
 }
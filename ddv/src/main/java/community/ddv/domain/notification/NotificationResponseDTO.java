@@ -16,6 +16,7 @@ public class NotificationResponseDTO {
   private String message;
   private Long relatedId;
   private boolean isRead;
+  private int count;
   private LocalDateTime createdAt;
 
 }
@@ -1,7 +1,6 @@
 package community.ddv.domain.notification;
 
 import community.ddv.domain.board.entity.Review;
-import community.ddv.domain.board.repository.ReviewRepository;
 import community.ddv.domain.certification.Certification;
 import community.ddv.domain.certification.CertificationRepository;
 import community.ddv.domain.certification.constant.CertificationStatus;
@@ -10,17 +9,13 @@ import community.ddv.domain.user.service.UserService;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
 import community.ddv.global.response.CursorPageResponse;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -30,194 +25,87 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @Slf4j
 public class NotificationService {
 
-  // SSE 연결을 저장할 Map
-  private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
   private final UserService userService;
   private final NotificationRepository notificationRepository;
   private final CertificationRepository certificationRepository;
-  private final ReviewRepository reviewRepository;
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final SseEmitterService sseEmitterService;
+  private final NotificationPublisher notificationPublisher;
+  private final NotificationUnreadCounter notificationUnreadCounter;
 
   /**
-   * SSE 구독 메서드
+   * SSE 구독 메서드 (구독 직후 현재 읽지 않은 알림 수를 unread-count 이벤트로 전송)
    * @param userId
+   * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
    */
-  public SseEmitter subscribe(Long userId) {
-
-    //log.info("SSE 구독 시작 : userId = {}", userId);
-
-    // 1. 기존 emitter 끊기
-    SseEmitter previousEmitter = emitters.remove(userId);
-    if (previousEmitter != null) {
-      //log.info("기존 emitter 존재 -> 제거 완료 userId = {}", userId);
-      previousEmitter.complete();
-    }
-
-    // 2. 새 emitter 저장
-    SseEmitter newEmitter = new SseEmitter(30 * 60 * 1000L); // 30 * 60 초 (타임아웃 30분)
-    emitters.put(userId, newEmitter);
-
-    // 초기 메시지 전송
-    sendFirstMessage(userId, newEmitter);
-
-    newEmitter.onCompletion(() -> removeEmitter(userId, newEmitter, "SSE 연결종료"));
-    newEmitter.onTimeout(() -> removeEmitter(userId, newEmitter, "SSE 타임아웃"));
-    newEmitter.onError((e) -> removeEmitter(userId, newEmitter, "SSE 연결 에러"));
-
-    log.info("[SSE] 구독 완료: userId = {}, 현재 emitter 수 = {}", userId, emitters.size());
-    return newEmitter;
-  }
-
-  private void removeEmitter(Long userId, SseEmitter emitter, String reason) {
-    emitters.compute(userId, (key, currentEmitter) -> {
-      if (currentEmitter == emitter) {
-        try {
-          emitter.complete();
-        } catch (Exception e) {
-          log.warn("[SSE] Emitter 종료 중 예외 발생: userId = {}, error = {}", userId, e.getMessage());
-        }
-        log.debug("[SSE] Emitter 제거 완료: userId = {}, 이유 = {}", userId, reason);
-        return null;
-      }
-      return currentEmitter;
-    });
-  }
-
-  //  SSE 초기 메시지 전송 메서드
-  private void sendFirstMessage(Long userId, SseEmitter emitter) {
+  public SseEmitter subscribe(Long userId, Long lastEventId) {
+    SseEmitter emitter = sseEmitterService.subscribe(userId, lastEventId);
     try {
-      //log.info("SSE 초기 메시지 전송 시도: userId = {}", userId);
-      emitter.send(SseEmitter.event()
-          .name("connect")
-          .data("SSE connect success"));
-      //log.info("SSE 초기 메시지 전송 완료");
-    } catch (IOException e) {
-      log.error("[SSE] 초기 메시지 전송 실패: userId = {}, error = {}", userId, e.getMessage());
-      emitter.completeWithError(e);
-      removeEmitter(userId, emitter, "초기 메시지 전송 실패");
+      notificationUnreadCounter.push(userId);
+    } catch (RuntimeException e) {
+      log.warn("[NOTIFICATION] 읽지 않은 알림 수 전송 실패 : userId = {}, error = {}", userId, e.getMessage());
     }
-  }
-
-
-  // 30초마다 ping 보내기
-  @Scheduled(fixedRate = 30000)
-  public void sendPingToClients() {
-
-    if (emitters.isEmpty()) {
-      return; // ping 보낼 구독자가 없으면 return
-    }
-
-    emitters.forEach((userId, emitter) -> {
-      try {
-        emitter.send(SseEmitter.event()
-            .name("ping")
-            .data("keep-alive"));
-      } catch (IOException | IllegalStateException e) {
-        log.warn("[SSE] Ping 전송 실패 : userId = {}, error = {}", userId, e.getMessage());
-        emitter.completeWithError(e); // 오류 발생 시 연결 종료
-        removeEmitter(userId, emitter, "ping 전송 실패 또는 타임아웃");
-      }
-
-    });
+    return emitter;
   }
 
   public void disconnectEmitter(Long userId) {
-    SseEmitter emitter = emitters.remove(userId);
-    if (emitter != null) {
-      removeEmitter(userId, emitter, "로그아웃/탈퇴에 의한 SSE 연결 종료");
-    }
+    sseEmitterService.disconnectEmitter(userId);
   }
 
   /**
-   * 알림 전송 메서드
+   * 알림 전송 메서드 (수신자가 연결된 노드에서 전송됨)
    * @param userId
    * @param notificationResponseDTO
    */
   public void sendNotification(Long userId, NotificationResponseDTO notificationResponseDTO) {
-    SseEmitter emitter = emitters.get(userId);
-
-    if (emitter != null) {
-      try {
-        emitter.send(notificationResponseDTO);
-      } catch (IOException e) {
-        log.info("[NOTIFICATION] 알림 전송 실패 : userId = {}", userId);
-        emitter.completeWithError(e);
-        emitters.remove(userId);
-        log.info("[SSE] Emitter 제거 : userId = {}", userId);
-      }
-    } else {
-      log.warn("[SSE] Emitter 없음 : userId = {}", userId);
-    }
+    notificationPublisher.publish(userId, notificationResponseDTO);
   }
 
   /**
    * 리뷰에 댓글이 달렸을 때의 알람
+   * 댓글 작성 트랜잭션 안에서 outbox 에만 저장하고, 알림 생성/전송은 NotificationOutboxDispatcher 가 처리
    * @param commenterId
-   * @param reviewId
+   * @param review
    */
-  public void commentAdded(Long commenterId, Long reviewId) {
-    log.info("[NOTIFICATION] 댓글 추가 알림 생성 시작 - reviewId = {}", reviewId);
+  public void commentAdded(Long commenterId, Review review) {
+    Long reviewerId = review.getUser().getId(); // 리뷰 작성자 (댓글 알림 받는 사람)
 
-    Review review = reviewRepository.findById(reviewId)
-        .orElseThrow(() -> new DeepdiviewException(ErrorCode.REVIEW_NOT_FOUND));
-
-    User reviewer = review.getUser(); // 리뷰 작성자 (댓글 알림 받는 사람)
-    //log.info("리뷰 작성자 : userId = {}", reviewer.getId());
-
-    if (commenterId.equals(reviewer.getId())) {
+    if (commenterId.equals(reviewerId)) {
       log.info("[NOTIFICATION] 자신의 리뷰에 댓글 작성 - 알림 X");
       return;
     }
 
-    Notification notification = Notification.builder()
-        .user(reviewer)
-        .notificationType(NotificationType.NEW_COMMENT)
-        .relatedId(reviewId)
-        .isRead(false)
-        .createdAt(LocalDateTime.now())
-        .build();
-
-    notificationRepository.save(notification);
-
-    NotificationResponseDTO responseDTO = responseDTO(notification);
-
-    sendNotification(reviewer.getId(), responseDTO);
-    log.info("[NOTIFICATION] 댓글 알림 전송 완료 - reviewId = {}", reviewId);
+    saveOutbox(reviewerId, commenterId, NotificationType.NEW_COMMENT, review.getId());
+    log.info("[NOTIFICATION] 댓글 알림 등록 완료 - reviewId = {}", review.getId());
   }
 
 
   /**
    * 좋아요 알림
-   * @param reviewId
+   * 좋아요 트랜잭션 안에서 outbox 에만 저장하고, NotificationOutboxDispatcher 가 일정 시간 동안 모아 묶음 알림으로 생성
+   * @param likerId
+   * @param review
    */
-  public void likeAdded(Long likerId, Long reviewId) {
-    log.info("[NOTIFICATION] 좋아요 알림 생성 시작 - reviewId = {}", reviewId);
-
-    Review review = reviewRepository.findById(reviewId)
-        .orElseThrow(() -> new DeepdiviewException(ErrorCode.REVIEW_NOT_FOUND));
-
-    User reviewer = review.getUser(); // 리뷰 작성자 (좋아요 알림 받는 사람)
-    //log.info("리뷰 작성자 : userId = {}", reviewer.getId());
+  public void likeAdded(Long likerId, Review review) {
+    Long reviewerId = review.getUser().getId(); // 리뷰 작성자 (좋아요 알림 받는 사람)
 
-    if (likerId.equals(reviewer.getId())) {
+    if (likerId.equals(reviewerId)) {
       log.info("[NOTIFICATION] 자신의 리뷰에 좋아요 - 알림 X");
       return;
     }
 
-    Notification notification = Notification.builder()
-        .user(reviewer)
-        .notificationType(NotificationType.NEW_LIKE)
-        .relatedId(reviewId)
-        .isRead(false)
-        .createdAt(LocalDateTime.now())
-        .build();
-
-    notificationRepository.save(notification);
-
-    NotificationResponseDTO responseDTO = responseDTO(notification);
-
-    log.info("[NOTIFICATION] 좋아요 알림 전송 완료 - reviewId = {}", reviewId);
+    saveOutbox(reviewerId, likerId, NotificationType.NEW_LIKE, review.getId());
+    log.info("[NOTIFICATION] 좋아요 알림 등록 완료 - reviewId = {}", review.getId());
+  }
 
-    sendNotification(reviewer.getId(), responseDTO);
+  private void saveOutbox(Long receiverId, Long senderId, NotificationType notificationType, Long relatedId) {
+    notificationOutboxRepository.save(NotificationOutbox.builder()
+        .receiverId(receiverId)
+        .senderId(senderId)
+        .notificationType(notificationType)
+        .relatedId(relatedId)
+        .createdAt(LocalDateTime.now())
+        .build());
   }
 
 
@@ -248,8 +136,9 @@ public class NotificationService {
         .createdAt(LocalDateTime.now())
         .build();
     notificationRepository.save(notification);
+    notificationUnreadCounter.added(user.getId(), 1);
 
-    NotificationResponseDTO responseDTO = responseDTO(notification);
+    NotificationResponseDTO responseDTO = convertToNotificationResponseDTO(notification);
     sendNotification(user.getId(), responseDTO);
     log.info("[NOTIFICATION] 인증 결과 알림 전송 완료 - status = {}, userId = {}", status, user.getId());
   }
@@ -295,56 +184,51 @@ public class NotificationService {
   @Transactional
   public void deleteOldNotifications() {
     LocalDateTime notificationResetDay = LocalDateTime.now().minusDays(31);
+    List<Long> affectedUserIds = notificationRepository.findUserIdsWithUnreadBefore(notificationResetDay);
     notificationRepository.deleteByCreatedAtBefore(notificationResetDay);
+    notificationUnreadCounter.evict(affectedUserIds);
   }
 
 
   /**
    * 특정 알림 읽음 처리
+   * UPDATE 가 커밋된 뒤 읽지 않은 알림 수를 갱신하므로 트랜잭션 없이 실행
    * @param notificationId
+   * @return 읽지 않은 알림이 남아 있는지 여부
    */
   public boolean markNotificationAsRead(Long notificationId) {
     User user = userService.getLoginUser();
     //log.info("알림 읽음 시도 : userId = {}", user.getId());
-    Notification notification = notificationRepository.findByIdAndUser_Id(notificationId,user.getId())
-        .orElseThrow(() -> new DeepdiviewException(ErrorCode.NOTIFICATION_NOT_FOUND));
+    int updated = notificationRepository.markAsRead(notificationId, user.getId());
 
-    if (!notification.isRead()) {
-      notification.markAsRead();
-      notificationRepository.save(notification);
-    //  log.info("알림 읽음처리 완료");
+    // 이미 읽은 알림이면 0 이므로, 그때만 존재 여부 확인
+    if (updated == 0 && notificationRepository.findByIdAndUser_Id(notificationId, user.getId()).isEmpty()) {
+      throw new DeepdiviewException(ErrorCode.NOTIFICATION_NOT_FOUND);
     }
 
-    return notificationRepository.existsByUser_IdAndIsReadFalse(user.getId());
+    notificationUnreadCounter.read(user.getId(), updated);
+    return notificationUnreadCounter.getUnreadCount(user.getId()) > 0;
   }
 
   /**
-   * 전체 알림 읽음 처리
+   * 전체 알림 읽음 처리 (UPDATE 한 번)
    */
   public void markAllNotificationAsRead() {
     User user = userService.getLoginUser();
     //log.info("전체 알림 읽음 시도 : userId = {}", user.getId());
 
-    List<Notification> notifications = notificationRepository.findByUser_IdAndIsReadFalseOrderByCreatedAtDesc(user.getId());
-
-    if (notifications.isEmpty()) {
-    //  log.info("읽지 않은 알림이 더이상 없습니다");
-      return;
-    }
-
-    notifications.forEach(Notification::markAsRead);
-    notificationRepository.saveAll(notifications);
+    int updated = notificationRepository.markAllAsRead(user.getId());
+    notificationUnreadCounter.read(user.getId(), updated);
     //log.info("전체 알림 읽음 처리 완료");
   }
 
   /**
-   * 읽지 않은 알림이 있는지 여부 반환
+   * 읽지 않은 알림이 있는지 여부 반환 (Redis 카운터 조회)
    * @return
    */
-  @Transactional(readOnly = true)
   public boolean isNotReadNotification() {
     User user = userService.getLoginUser();
-    return notificationRepository.existsByUser_IdAndIsReadFalse(user.getId());
+    return notificationUnreadCounter.getUnreadCount(user.getId()) > 0;
   }
 
   private NotificationResponseDTO convertToNotificationResponseDTO(Notification notification) {
@@ -352,21 +236,11 @@ public class NotificationService {
         .notificationId(notification.getId())
         .notificationType(notification.getNotificationType())
         .relatedId(notification.getRelatedId())
-        .message(notification.getNotificationType().getMessage())
+        .message(notification.getNotificationType().getMessage(notification.getCount()))
         .isRead(notification.isRead())
+        .count(notification.getCount())
         .createdAt(notification.getCreatedAt())
         .build();
   }
 
-  private NotificationResponseDTO responseDTO(Notification notification) {
-    return new NotificationResponseDTO(
-        notification.getId(),
-        notification.getNotificationType(),
-        notification.getNotificationType().getMessage(),
-        notification.getRelatedId(),
-        notification.isRead(),
-        notification.getCreatedAt()
-    );
-  }
-
 }
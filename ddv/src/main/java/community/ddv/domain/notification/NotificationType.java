@@ -20,4 +20,12 @@ public enum NotificationType {
     return message;
   }
 
+  // 여러 건이 묶인 알림(좋아요 묶음)의 메시지
+  public String getMessage(int count) {
+    if (this == NEW_LIKE && count > 1) {
+      return count + "명이 내 리뷰에 좋아요를 눌렀습니다.";
+    }
+    return message;
+  }
+
 }
@@ -0,0 +1,131 @@
+package community.ddv.domain.notification;
+
+import community.ddv.global.util.AfterCommit;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Redis)
+ * - notification:unread:{userId} : 읽지 않은 알림 수
+ * 처음 조회할 때 DB 에서 세고, 이후 알림 생성/읽음 처리가 커밋되면 증감 후 SSE(unread-count 이벤트)로 전송
+ * notification 테이블이 원본이고, 하루 TTL 이 지나면 DB 기준으로 다시 셈
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+  private static final String KEY_PREFIX = "notification:unread:";
+  private static final Duration TTL = Duration.ofDays(1);
+
+  // 이미 불러온 값만 증감 (0 아래로 내려가지 않음), 값이 없으면 -1
+  private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -1
+      end
+      local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+      if count < 0 then
+        redis.call('SET', KEYS[1], 0)
+        count = 0
+      end
+      redis.call('EXPIRE', KEYS[1], ARGV[2])
+      return count
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final NotificationRepository notificationRepository;
+  private final NotificationPublisher notificationPublisher;
+
+  /**
+   * 읽지 않은 알림 수 (Redis 장애 시 DB 에서 셈)
+   * @param userId
+   */
+  public long getUnreadCount(Long userId) {
+    String key = KEY_PREFIX + userId;
+    try {
+      String cached = redisStringTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return Long.parseLong(cached);
+      }
+      long count = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+      // 다른 요청이 먼저 채웠으면 그 값을 사용
+      Boolean stored = redisStringTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+      if (Boolean.TRUE.equals(stored)) {
+        return count;
+      }
+      cached = redisStringTemplate.opsForValue().get(key);
+      return cached != null ? Long.parseLong(cached) : count;
+    } catch (RuntimeException e) {
+      log.warn("[NOTIFICATION] 읽지 않은 알림 수 조회 실패 - DB 에서 조회, userId = {}", userId, e);
+      return notificationRepository.countByUser_IdAndIsReadFalse(userId);
+    }
+  }
+
+  // 알림 생성 (커밋 후 반영)
+  public void added(Long userId, long count) {
+    afterCommit(() -> apply(userId, count));
+  }
+
+  // 알림 읽음 처리 (커밋 후 반영)
+  public void read(Long userId, long count) {
+    afterCommit(() -> apply(userId, -count));
+  }
+
+  // 현재 값을 SSE 로 전송 (구독 직후 등)
+  public void push(Long userId) {
+    notificationPublisher.publishUnreadCount(userId, getUnreadCount(userId));
+  }
+
+  // 읽지 않은 알림이 삭제된 사용자들의 값을 버림 (커밋 후, 다음 조회 때 DB 에서 다시 셈)
+  public void evict(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    List<String> keys = userIds.stream().map(userId -> KEY_PREFIX + userId).toList();
+    afterCommit(() -> redisStringTemplate.delete(keys));
+  }
+
+  private void apply(Long userId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    String key = KEY_PREFIX + userId;
+    long count;
+    try {
+      Long result = redisStringTemplate.execute(ADD_SCRIPT, List.of(key),
+          String.valueOf(delta), String.valueOf(TTL.toSeconds()));
+      count = result != null ? result : -1;
+    } catch (RuntimeException e) {
+      // 어긋난 값은 버리고 다음 조회 때 DB 에서 다시 셈
+      log.warn("[NOTIFICATION] 읽지 않은 알림 수 갱신 실패 - userId = {}", userId, e);
+      try {
+        redisStringTemplate.delete(key);
+      } catch (RuntimeException ignored) {
+        // Redis 자체가 안 되면 조회도 DB 로 넘어감
+      }
+      count = -1;
+    }
+    if (count < 0) {
+      count = getUnreadCount(userId);
+    }
+    notificationPublisher.publishUnreadCount(userId, count);
+  }
+
+  // 커밋 후 실행 (카운터 갱신 실패가 이미 커밋된 요청이나 outbox 처리를 실패시키지 않도록 예외는 기록만 함)
+  private void afterCommit(Runnable action) {
+    Runnable guarded = () -> {
+      try {
+        action.run();
+      } catch (RuntimeException e) {
+        log.warn("[NOTIFICATION] 읽지 않은 알림 수 반영 실패", e);
+      }
+    };
+    AfterCommit.run(guarded);
+  }
+}
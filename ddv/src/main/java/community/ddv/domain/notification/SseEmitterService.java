@@ -0,0 +1,423 @@
+package community.ddv.domain.notification;
+
+import community.ddv.domain.notification.SseReplayBuffer.Replay;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 이 서버(노드)에 연결된 SSE emitter 관리
+ * 사용자가 어느 노드에 연결되어 있는지는 Redis(sse:owner:{userId})에 기록해 다른 노드에서 알림을 라우팅할 수 있게 함
+ *
+ * 전송은 연결마다 가진 outbound 큐에 쌓고, 전용 전송 스레드풀에서 비움
+ * - 느린 클라이언트 하나가 다른 연결이나 @Scheduled 작업을 막지 않음
+ * - 큐가 가득 차면 가장 오래된 이벤트를 버림 (알림은 DB에 남아 있으므로 목록 조회로 복구 가능)
+ * - ping 은 큐에 이미 있으면 하나로 합침
+ * - ping 은 30초 주기를 슬롯으로 나눠 1초마다 일부 연결에만 보냄 (한 번에 몰리지 않도록)
+ *
+ * 알림 이벤트에는 사용자별로 증가하는 id 를 붙이고, 재연결 시 Last-Event-ID 이후의 이벤트를 SseReplayBuffer 에서 다시 보냄
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SseEmitterService {
+
+  private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L; // 30 * 60 초 (타임아웃 30분)
+  private static final String OWNER_KEY_PREFIX = "sse:owner:";
+
+  private static final int DELIVERY_THREADS = 8;
+  private static final int OUTBOUND_QUEUE_CAPACITY = 100;
+  private static final long HEARTBEAT_INTERVAL = 30 * 1000L; // 30초
+  private static final int HEARTBEAT_SLOTS = 30;
+
+  // 내 노드가 소유한 경우에만 삭제 (다른 노드로 재연결된 경우 덮어쓴 값을 지우지 않도록)
+  private static final DefaultRedisScript<Long> RELEASE_OWNER_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  // SSE 연결을 저장할 Map
+  private final Map<Long, SseConnection> connections = new ConcurrentHashMap<>();
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final SseReplayBuffer sseReplayBuffer;
+
+  private final AtomicInteger slotSequence = new AtomicInteger();
+  private final AtomicInteger heartbeatTick = new AtomicInteger();
+  private ExecutorService deliveryExecutor;
+  private ScheduledExecutorService heartbeatScheduler;
+
+  @Getter
+  private final String nodeId = UUID.randomUUID().toString();
+
+  @PostConstruct
+  public void init() {
+    // 연결마다 drain 작업은 최대 1개만 대기하므로 작업 큐 크기는 연결 수를 넘지 않음
+    deliveryExecutor = new ThreadPoolExecutor(DELIVERY_THREADS, DELIVERY_THREADS,
+        0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+        new CustomizableThreadFactory("sse-delivery-"));
+    heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("sse-heartbeat-"));
+
+    long tickInterval = HEARTBEAT_INTERVAL / HEARTBEAT_SLOTS;
+    heartbeatScheduler.scheduleAtFixedRate(this::sendPingToSlot, tickInterval, tickInterval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeatScheduler.shutdownNow();
+    deliveryExecutor.shutdown();
+  }
+
+  /**
+   * SSE 구독 메서드
+   * @param userId
+   * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 id (없으면 null)
+   */
+  public SseEmitter subscribe(Long userId, Long lastEventId) {
+
+    // 1. 기존 emitter 끊기
+    SseConnection previousConnection = connections.remove(userId);
+    if (previousConnection != null) {
+      previousConnection.close();
+    }
+
+    // 2. 새 emitter 저장 & 이 노드가 연결을 가지고 있음을 기록
+    SseEmitter newEmitter = new SseEmitter(EMITTER_TIMEOUT);
+    SseConnection connection = new SseConnection(userId, newEmitter,
+        Math.floorMod(slotSequence.getAndIncrement(), HEARTBEAT_SLOTS));
+    connections.put(userId, connection);
+    redisStringTemplate.opsForValue().set(ownerKey(userId), nodeId, EMITTER_TIMEOUT, TimeUnit.MILLISECONDS);
+
+    newEmitter.onCompletion(() -> removeConnection(connection, "SSE 연결종료"));
+    newEmitter.onTimeout(() -> removeConnection(connection, "SSE 타임아웃"));
+    newEmitter.onError((e) -> removeConnection(connection, "SSE 연결 에러"));
+
+    // 초기 메시지 + 놓친 이벤트 전송
+    // 연결 등록 이후에 버퍼를 읽으므로 그 사이 도착한 실시간 이벤트는 큐 뒤에 쌓이고, 재전송과 중복되는 것은 건너뜀
+    List<OutboundEvent> initialEvents = new ArrayList<>();
+    initialEvents.add(new OutboundEvent(
+        SseEmitter.event().name("connect").data("SSE connect success"), null, false, null));
+    if (lastEventId != null) {
+      initialEvents.addAll(loadReplayEvents(userId, lastEventId));
+    }
+    if (connection.start(initialEvents)) {
+      scheduleDrain(connection);
+    }
+
+    log.info("[SSE] 구독 완료: userId = {}, 현재 emitter 수 = {}", userId, connections.size());
+    return newEmitter;
+  }
+
+  private List<OutboundEvent> loadReplayEvents(Long userId, long lastEventId) {
+    List<OutboundEvent> events = new ArrayList<>();
+    try {
+      Replay replay = sseReplayBuffer.findAfter(userId, lastEventId);
+      if (replay.isTruncated()) {
+        // 버퍼보다 오래 끊겨 있었음 → 클라이언트가 알림 목록을 다시 조회하도록 알림
+        events.add(new OutboundEvent(SseEmitter.event().name("resync").data("replay truncated"), null, false, null));
+      }
+      replay.getEvents().forEach(event -> events.add(new OutboundEvent(
+          SseEmitter.event()
+              .id(String.valueOf(event.getEventId()))
+              .data(event.getPayload(), MediaType.APPLICATION_JSON),
+          event.getEventId(), false, null)));
+      log.info("[SSE] 놓친 이벤트 재전송: userId = {}, lastEventId = {}, 재전송 수 = {}, truncated = {}",
+          userId, lastEventId, replay.getEvents().size(), replay.isTruncated());
+    } catch (RuntimeException e) {
+      log.warn("[SSE] 재전송 이벤트 조회 실패: userId = {}, error = {}", userId, e.getMessage());
+    }
+    return events;
+  }
+
+  private void removeConnection(SseConnection connection, String reason) {
+    Long userId = connection.getUserId();
+    boolean removed = connections.remove(userId, connection);
+    connection.close();
+    if (removed) {
+      releaseOwner(userId);
+      log.debug("[SSE] Emitter 제거 완료: userId = {}, 이유 = {}", userId, reason);
+    }
+  }
+
+  private void releaseOwner(Long userId) {
+    try {
+      redisStringTemplate.execute(RELEASE_OWNER_SCRIPT, Collections.singletonList(ownerKey(userId)), nodeId);
+    } catch (RuntimeException e) {
+      log.warn("[SSE] 연결 노드 정보 삭제 실패: userId = {}, error = {}", userId, e.getMessage());
+    }
+  }
+
+  // 현재 슬롯에 해당하는 연결에만 ping (30초 동안 모든 연결에 한 번씩)
+  private void sendPingToSlot() {
+    try {
+      int slot = Math.floorMod(heartbeatTick.getAndIncrement(), HEARTBEAT_SLOTS);
+      for (SseConnection connection : connections.values()) {
+        if (connection.getHeartbeatSlot() == slot) {
+          enqueue(connection, new OutboundEvent(
+              SseEmitter.event().name("ping").data("keep-alive"), null, true, null));
+        }
+      }
+    } catch (RuntimeException e) {
+      // 예외가 밖으로 나가면 이후 ping 이 모두 중단되므로 여기서 처리
+      log.error("[SSE] Ping 처리 중 예외 발생: error = {}", e.getMessage());
+    }
+  }
+
+  public void disconnectEmitter(Long userId) {
+    SseConnection connection = connections.get(userId);
+    if (connection != null) {
+      removeConnection(connection, "로그아웃/탈퇴에 의한 SSE 연결 종료");
+    }
+  }
+
+  // 사용자가 연결되어 있는 노드 id (연결되어 있지 않으면 null)
+  public String findOwnerNode(Long userId) {
+    return redisStringTemplate.opsForValue().get(ownerKey(userId));
+  }
+
+  /**
+   * 이 노드에 연결된 사용자에게 JSON 알림 전송 (비동기)
+   * @param eventId 재전송용 이벤트 id (발급 실패 시 null)
+   * @param onComplete 전송 결과 콜백 (전송 스레드에서 호출됨)
+   */
+  public void sendToLocal(Long userId, Long eventId, String jsonPayload, Consumer<DeliveryResult> onComplete) {
+    SseConnection connection = connections.get(userId);
+
+    if (connection == null) {
+      log.warn("[SSE] Emitter 없음 : userId = {}", userId);
+      onComplete.accept(DeliveryResult.NO_EMITTER);
+      return;
+    }
+
+    SseEventBuilder event = SseEmitter.event();
+    if (eventId != null) {
+      event.id(String.valueOf(eventId));
+    }
+    enqueue(connection, new OutboundEvent(
+        event.data(jsonPayload, MediaType.APPLICATION_JSON), eventId, false, onComplete));
+  }
+
+  /**
+   * 이 노드에 연결된 사용자에게 이름 있는 JSON 이벤트 전송 (비동기, 재전송 대상 아님)
+   * 읽지 않은 알림 수처럼 최신 값만 의미 있는 이벤트용
+   */
+  public void sendNamedToLocal(Long userId, String eventName, String jsonPayload) {
+    SseConnection connection = connections.get(userId);
+    if (connection == null) {
+      return;
+    }
+    enqueue(connection, new OutboundEvent(
+        SseEmitter.event().name(eventName).data(jsonPayload, MediaType.APPLICATION_JSON), null, false, null));
+  }
+
+  private void enqueue(SseConnection connection, OutboundEvent event) {
+    if (connection.offer(event)) {
+      scheduleDrain(connection);
+    }
+  }
+
+  private void scheduleDrain(SseConnection connection) {
+    try {
+      deliveryExecutor.execute(() -> drain(connection));
+    } catch (RejectedExecutionException e) {
+      // 종료 중
+      connection.close();
+    }
+  }
+
+  // 연결의 큐를 비우며 순서대로 전송 (연결당 동시에 하나의 drain 만 실행됨)
+  private void drain(SseConnection connection) {
+    OutboundEvent event;
+    while ((event = connection.poll()) != null) {
+      try {
+        connection.getEmitter().send(event.getEvent());
+        event.complete(DeliveryResult.DELIVERED);
+      } catch (IOException | IllegalStateException e) {
+        log.warn("[SSE] 이벤트 전송 실패 : userId = {}, error = {}", connection.getUserId(), e.getMessage());
+        event.complete(DeliveryResult.FAILED);
+        try {
+          connection.getEmitter().completeWithError(e); // 오류 발생 시 연결 종료
+        } catch (Exception ignored) {
+          // 이미 종료된 emitter
+        }
+        removeConnection(connection, "이벤트 전송 실패 또는 타임아웃");
+        return;
+      }
+    }
+  }
+
+  private String ownerKey(Long userId) {
+    return OWNER_KEY_PREFIX + userId;
+  }
+
+  public enum DeliveryResult {
+    DELIVERED, FAILED, DROPPED, NO_EMITTER, OFFLINE
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class OutboundEvent {
+    private final SseEventBuilder event;
+    private final Long eventId;
+    private final boolean heartbeat;
+    private final Consumer<DeliveryResult> onComplete;
+
+    void complete(DeliveryResult result) {
+      if (onComplete != null) {
+        onComplete.accept(result);
+      }
+    }
+  }
+
+  /**
+   * 연결 하나와 그 연결의 outbound 큐
+   */
+  @Getter
+  private static class SseConnection {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int heartbeatSlot;
+
+    // 아래 필드는 this 로 동기화
+    private final Deque<OutboundEvent> queue = new ArrayDeque<>();
+    private boolean heartbeatQueued;
+    private boolean draining;
+    private boolean started;
+    private boolean closed;
+    private final Set<Long> replayedIds = new HashSet<>();
+
+    SseConnection(Long userId, SseEmitter emitter, int heartbeatSlot) {
+      this.userId = userId;
+      this.emitter = emitter;
+      this.heartbeatSlot = heartbeatSlot;
+    }
+
+    /**
+     * 큐에 이벤트 추가
+     * @return drain 작업을 새로 시작해야 하면 true
+     */
+    boolean offer(OutboundEvent event) {
+      OutboundEvent dropped = null;
+      boolean startDrain = false;
+      synchronized (this) {
+        if (closed) {
+          dropped = event;
+        } else if (event.isHeartbeat() && heartbeatQueued) {
+          return false; // 대기 중인 ping 과 합침
+        } else {
+          if (queue.size() >= OUTBOUND_QUEUE_CAPACITY) {
+            dropped = queue.pollFirst();
+            if (dropped.isHeartbeat()) {
+              heartbeatQueued = false;
+            }
+          }
+          queue.addLast(event);
+          if (event.isHeartbeat()) {
+            heartbeatQueued = true;
+          }
+          if (started && !draining) {
+            draining = true;
+            startDrain = true;
+          }
+        }
+      }
+
+      if (dropped != null) {
+        log.warn("[SSE] outbound 큐 초과/종료로 이벤트 버림 : userId = {}", userId);
+        dropped.complete(DeliveryResult.DROPPED);
+      }
+      return startDrain;
+    }
+
+    /**
+     * 초기 이벤트(connect, 재전송)를 큐 맨 앞에 넣고 전송 시작
+     * start 이전에 도착한 실시간 이벤트는 큐에만 쌓여 있다가 초기 이벤트 뒤에 전송됨
+     * @return drain 작업을 새로 시작해야 하면 true
+     */
+    synchronized boolean start(List<OutboundEvent> initialEvents) {
+      if (closed) {
+        return false;
+      }
+      for (int i = initialEvents.size() - 1; i >= 0; i--) {
+        OutboundEvent event = initialEvents.get(i);
+        queue.addFirst(event);
+        if (event.getEventId() != null) {
+          replayedIds.add(event.getEventId());
+        }
+      }
+      started = true;
+      draining = true;
+      return true;
+    }
+
+    OutboundEvent poll() {
+      while (true) {
+        OutboundEvent event;
+        synchronized (this) {
+          event = closed ? null : queue.pollFirst();
+          if (event == null) {
+            draining = false;
+            return null;
+          }
+          if (event.isHeartbeat()) {
+            heartbeatQueued = false;
+          }
+          // 재전송 이벤트(콜백 없음)는 그대로, 재전송과 겹치는 실시간 이벤트는 건너뜀
+          if (event.getOnComplete() == null || event.getEventId() == null
+              || !replayedIds.contains(event.getEventId())) {
+            return event;
+          }
+        }
+        // 재전송으로 이미 보낸 이벤트
+        event.complete(DeliveryResult.DELIVERED);
+      }
+    }
+
+    void close() {
+      List<OutboundEvent> pending;
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        pending = new ArrayList<>(queue);
+        queue.clear();
+        heartbeatQueued = false;
+      }
+      pending.forEach(event -> event.complete(DeliveryResult.DROPPED));
+      try {
+        emitter.complete();
+      } catch (Exception e) {
+        log.warn("[SSE] Emitter 종료 중 예외 발생: userId = {}, error = {}", userId, e.getMessage());
+      }
+    }
+  }
+}
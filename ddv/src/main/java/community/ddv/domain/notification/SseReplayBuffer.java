@@ -0,0 +1,103 @@
+package community.ddv.domain.notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최근 SSE 알림 이벤트 버퍼 (Redis)
+ * - sse:event-seq:{userId} : 사용자별로 단조 증가하는 이벤트 id
+ * - sse:replay:{userId}    : 최근 REPLAY_BUFFER_SIZE 개 이벤트 ("{id}:{payload}")
+ * 재연결 시 Last-Event-ID 이후의 이벤트만 다시 보내기 위해 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseReplayBuffer {
+
+  private static final String SEQUENCE_KEY_PREFIX = "sse:event-seq:";
+  private static final String BUFFER_KEY_PREFIX = "sse:replay:";
+  private static final int REPLAY_BUFFER_SIZE = 50;
+  private static final long REPLAY_BUFFER_TTL_SECONDS = 60 * 60; // 1시간
+
+  // id 발급 + 버퍼 추가 + 크기 제한을 한 번에 처리
+  // 시퀀스 키는 만료시키지 않음 (만료 후 id 가 1부터 다시 시작하면 Last-Event-ID 비교가 깨짐)
+  private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+      "local id = redis.call('incr', KEYS[1]) "
+          + "redis.call('rpush', KEYS[2], id .. ':' .. ARGV[1]) "
+          + "redis.call('ltrim', KEYS[2], -tonumber(ARGV[2]), -1) "
+          + "redis.call('expire', KEYS[2], ARGV[3]) "
+          + "return id",
+      Long.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  /**
+   * 이벤트를 버퍼에 추가하고 이벤트 id 발급
+   * @return 이벤트 id (Redis 장애 시 null)
+   */
+  public Long append(Long userId, String payload) {
+    try {
+      return redisStringTemplate.execute(APPEND_SCRIPT,
+          Arrays.asList(SEQUENCE_KEY_PREFIX + userId, BUFFER_KEY_PREFIX + userId),
+          payload, String.valueOf(REPLAY_BUFFER_SIZE), String.valueOf(REPLAY_BUFFER_TTL_SECONDS));
+    } catch (RuntimeException e) {
+      log.warn("[SSE] 재전송 버퍼 추가 실패 : userId = {}, error = {}", userId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * lastEventId 이후의 이벤트 조회
+   */
+  public Replay findAfter(Long userId, long lastEventId) {
+    List<String> entries = redisStringTemplate.opsForList().range(BUFFER_KEY_PREFIX + userId, 0, -1);
+
+    List<ReplayEvent> events = new ArrayList<>();
+    long oldestId = Long.MAX_VALUE;
+    if (entries != null) {
+      for (String entry : entries) {
+        int separator = entry.indexOf(':');
+        long eventId = Long.parseLong(entry.substring(0, separator));
+        oldestId = Math.min(oldestId, eventId);
+        if (eventId > lastEventId) {
+          events.add(new ReplayEvent(eventId, entry.substring(separator + 1)));
+        }
+      }
+    }
+
+    boolean truncated;
+    if (oldestId == Long.MAX_VALUE) {
+      // 버퍼가 만료된 경우 : 그 사이 이벤트가 있었는지 시퀀스로 판단
+      String sequence = redisStringTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + userId);
+      truncated = sequence != null && Long.parseLong(sequence) > lastEventId;
+    } else {
+      truncated = oldestId > lastEventId + 1;
+    }
+    return new Replay(events, truncated);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class ReplayEvent {
+    private final long eventId;
+    private final String payload;
+  }
+
+  /**
+   * events : 다시 보낼 이벤트 (id 오름차순)
+   * truncated : 버퍼 크기를 넘는 공백이 있어 일부 이벤트를 복구할 수 없음 → 클라이언트가 목록을 다시 조회해야 함
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Replay {
+    private final List<ReplayEvent> events;
+    private final boolean truncated;
+  }
+}
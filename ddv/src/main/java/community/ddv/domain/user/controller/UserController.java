@@ -16,12 +16,14 @@ import community.ddv.domain.user.dto.UserInfoDto.UserInfoResponseDto;
 import community.ddv.domain.user.service.AuthService;
 import community.ddv.domain.user.service.ProfileImageService;
 import community.ddv.domain.user.service.UserService;
+import community.ddv.global.response.CursorPageResponse;
 import community.ddv.global.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -161,6 +163,18 @@ public class UserController {
     return ResponseEntity.ok(new PageResponse<>(reviews));
   }
 
+  @Operation(summary = "특정 사용자가 작성한 리뷰 커서 조회")
+  @GetMapping("{userId}/reviews/cursor")
+  public ResponseEntity<CursorPageResponse<ReviewResponseDTO>> getReviewsByUserIdWithCursor(
+      @PathVariable Long userId,
+      @RequestParam(value = "certifiedFilter", required = false, defaultValue = "false") Boolean certifiedFilter,
+      @RequestParam(required = false) LocalDateTime createdAt,
+      @RequestParam(required = false) Long reviewId,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(
+        reviewService.getReviewsByUserIdWithCursor(userId, certifiedFilter, createdAt, reviewId, size));
+  }
+
 
   @Operation(summary = "프로필사진 등록/수정")
   @PutMapping(value = "/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
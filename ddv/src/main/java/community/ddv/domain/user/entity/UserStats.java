@@ -0,0 +1,69 @@
+package community.ddv.domain.user.entity;
+
+import community.ddv.domain.board.entity.RatingHistogram;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 사용자별 활동 집계 (리뷰/댓글 작성·수정·삭제 시 증분 반영)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class UserStats {
+
+  @Id
+  private Long userId; // User.id
+
+  private long reviewCount;
+  private long commentCount;
+
+  @Embedded
+  private RatingHistogram histogram = new RatingHistogram();
+
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  public UserStats(Long userId) {
+    this.userId = userId;
+  }
+
+  public void reviewAdded(Double rating) {
+    reviewCount++;
+    histogram.addRating(rating);
+  }
+
+  public void reviewRemoved(Double rating) {
+    reviewCount = Math.max(0, reviewCount - 1);
+    histogram.removeRating(rating);
+  }
+
+  public void changeRating(Double oldRating, Double newRating) {
+    histogram.removeRating(oldRating);
+    histogram.addRating(newRating);
+  }
+
+  public void addComments(long delta) {
+    commentCount = Math.max(0, commentCount + delta);
+  }
+
+  // 재집계 전에 0 으로 초기화
+  public void reset() {
+    reviewCount = 0;
+    commentCount = 0;
+    histogram = new RatingHistogram();
+  }
+
+  // 재집계 시 같은 별점의 리뷰 여러 개를 한 번에 반영
+  public void applyReviews(Double rating, long count) {
+    reviewCount += count;
+    histogram.apply(rating, count);
+  }
+}
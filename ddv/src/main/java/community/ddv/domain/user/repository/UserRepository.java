@@ -1,8 +1,12 @@
 package community.ddv.domain.user.repository;
 
 import community.ddv.domain.user.entity.User;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -10,4 +14,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   boolean existsByEmail(String email);
   boolean existsByNickname(String nickname);
+
+  @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+  Set<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
 }
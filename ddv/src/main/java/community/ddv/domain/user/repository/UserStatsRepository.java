@@ -0,0 +1,38 @@
+package community.ddv.domain.user.repository;
+
+import community.ddv.domain.user.entity.UserStats;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+  // 같은 사용자의 리뷰/댓글이 동시에 작성될 때 갱신이 유실되지 않도록 행 잠금 후 조회
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM UserStats s WHERE s.userId = :userId")
+  Optional<UserStats> findForUpdate(@Param("userId") Long userId);
+
+  // 재집계용 - 여러 사용자의 행을 id 순서대로 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM UserStats s WHERE s.userId IN :userIds ORDER BY s.userId")
+  List<UserStats> findAllForUpdate(@Param("userIds") Collection<Long> userIds);
+
+  @Query("SELECT s.userId FROM UserStats s")
+  List<Long> findAllUserIds();
+
+  // 행이 없을 때만 0 으로 생성 (첫 리뷰/댓글이 동시에 작성돼도 PK 중복 없이 한 행만 생김)
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_stats (user_id, review_count, comment_count, rating_count, rating_sum, rating05, rating10, rating15, rating20, rating25,
+                              rating30, rating35, rating40, rating45, rating50, updated_at)
+      VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, NOW())
+      ON DUPLICATE KEY UPDATE user_id = user_id
+      """, nativeQuery = true)
+  void insertIfAbsent(@Param("userId") Long userId);
+}
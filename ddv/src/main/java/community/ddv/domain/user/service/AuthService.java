@@ -1,5 +1,9 @@
 package community.ddv.domain.user.service;
 
+import community.ddv.domain.board.service.LatestReviewFeed;
+import community.ddv.domain.board.service.ReviewLikeCounter;
+import community.ddv.domain.board.service.UserLikedReviews;
+import community.ddv.domain.movie.service.MovieRatingStatsService;
 import community.ddv.domain.notification.NotificationService;
 import community.ddv.domain.user.constant.Role;
 import community.ddv.domain.user.dto.SignDto.AccountDeleteDto;
@@ -10,6 +14,7 @@ import community.ddv.domain.user.dto.SignDto.TokenDto;
 import community.ddv.domain.user.entity.User;
 import community.ddv.domain.user.repository.UserRepository;
 import community.ddv.global.component.JwtProvider;
+import community.ddv.global.component.TokenBlacklist;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,7 +39,14 @@ public class AuthService {
   private final RedisTemplate<String, String> redisStringTemplate;
   private final PasswordEncoder passwordEncoder;
   private final JwtProvider jwtProvider;
+  private final TokenBlacklist tokenBlacklist;
   private final EmailService emailService;
+  private final UserDetailsServiceImpl userDetailsService;
+  private final LatestReviewFeed latestReviewFeed;
+  private final UserLikedReviews userLikedReviews;
+  private final ReviewLikeCounter reviewLikeCounter;
+  private final UserStatsService userStatsService;
+  private final MovieRatingStatsService movieRatingStatsService;
 
   @Value("${profile.image.default-url}")
   private String defaultProfileImageUrl;
@@ -165,7 +177,7 @@ public class AuthService {
 
       if (remainTime > 0) {
         // 남은 시간동안 블랙리스트로 등록
-        redisStringTemplate.opsForValue().set(accessToken, "logout", remainTime, TimeUnit.MILLISECONDS);
+        tokenBlacklist.revoke(accessToken, remainTime);
         log.info("[LOGOUT] 엑세스토큰 블랙리스트로 등록 완료");
       } else {
         log.info("[LOGOUT] 만료된 엑세스 토큰");
@@ -243,8 +255,7 @@ public class AuthService {
 
       if (remainTime > 0) {
         // 남은 시간동안 블랙리스트로 등록
-        redisStringTemplate.opsForValue()
-            .set(accessToken, "logout", remainTime, TimeUnit.MILLISECONDS);
+        tokenBlacklist.revoke(accessToken, remainTime);
         log.info("[DELETE_ACCOUNT] 엑세스 토큰 블랙리스트로 등록 완료");
       }
     }
@@ -254,8 +265,14 @@ public class AuthService {
 
     notificationService.disconnectEmitter(user.getId());
     log.info("[DELETE_ACCOUNT] SSE 연결 종료 : userId = {}", user.getId());
-    // 사용자 삭제
+    // 사용자 삭제 (함께 지워지는 리뷰, 댓글, 좋아요를 알아야 하므로 별점/활동 집계와 좋아요 수를 먼저 반영)
+    movieRatingStatsService.userDeleted(user.getId());
+    userStatsService.userDeleted(user.getId());
+    reviewLikeCounter.userDeleted(user.getId());
     userRepository.delete(user);
+    userDetailsService.evictUser(user.getEmail());
+    latestReviewFeed.invalidate();
+    userLikedReviews.evict(user.getId());
     log.info("[DELETE_ACCOUNT] 회원탈퇴 완료: userId = {}, email = {}", user.getId(), user.getEmail());
 
     SecurityContextHolder.clearContext();
@@ -1,5 +1,6 @@
 package community.ddv.domain.user.service;
 
+import community.ddv.domain.board.service.LatestReviewFeed;
 import community.ddv.domain.user.entity.User;
 import community.ddv.global.fileUpload.FileStorageService;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,8 @@ public class ProfileImageService {
 
   private final UserService userService;
   private final FileStorageService fileStorageService;
+  private final UserDetailsServiceImpl userDetailsService;
+  private final LatestReviewFeed latestReviewFeed;
 
 
   @Transactional
@@ -37,6 +40,8 @@ public class ProfileImageService {
 
     String newProfileImageUrl = fileStorageService.uploadFile(profileImage);
     user.updateProfileImageUrl(newProfileImageUrl);
+    userDetailsService.evictUser(user.getEmail());
+    latestReviewFeed.invalidate();
     log.info("[PROFILE_IMAGE_UPDATE] 새 프로필 이미지 등록/수정 완료 ");
     return newProfileImageUrl;
 
@@ -61,6 +66,8 @@ public class ProfileImageService {
       fileStorageService.deleteFile(user.getProfileImageUrl());
     }
     user.updateProfileImageUrl(defaultProfileImageUrl);
+    userDetailsService.evictUser(user.getEmail());
+    latestReviewFeed.invalidate();
     log.info("[PROFILE_IMAGE_DELETE] 기본 이미지로 변경 완료 - userId = {}", user.getId());
     return defaultProfileImageUrl;
   }
@@ -2,6 +2,9 @@ package community.ddv.domain.user.service;
 
 import community.ddv.domain.user.entity.User;
 import community.ddv.domain.user.repository.UserRepository;
+import community.ddv.global.util.AfterCommit;
+import community.ddv.global.util.ExpiringLruCache;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -9,16 +12,49 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 // DB에서 사용자 정보 찾아 가져오는 역할
+// 인증된 요청마다 조회하지 않도록 이메일 기준으로 짧게 캐싱 (사용자 정보 변경/탈퇴 시 evictUser)
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+  private static final long USER_CACHE_TTL = 60 * 1000L; // 1분
+  private static final int USER_CACHE_MAX_SIZE = 10_000;
+
   private final UserRepository userRepository;
+  private final ExpiringLruCache<String, UserDetailsImpl> userCache = new ExpiringLruCache<>(USER_CACHE_MAX_SIZE);
+  // 삭제 횟수 - 조회 도중 삭제가 있었으면 조회한 (옛) 값을 캐시에 남기지 않음
+  private final AtomicLong evictions = new AtomicLong();
 
   @Override
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+    UserDetailsImpl cached = userCache.get(email);
+    if (cached != null) {
+      return cached;
+    }
+
+    long evictionsBeforeLoad = evictions.get();
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-    return new UserDetailsImpl(user);
+    UserDetailsImpl userDetails = new UserDetailsImpl(user);
+    userCache.put(email, userDetails, System.currentTimeMillis() + USER_CACHE_TTL);
+    // 넣는 사이에 삭제가 있었으면 방금 넣은 값이 변경 전 값일 수 있으므로 버림
+    if (evictions.get() != evictionsBeforeLoad) {
+      userCache.remove(email);
+    }
+    return userDetails;
+  }
+
+  /**
+   * 사용자 정보 변경/탈퇴 시 캐시 삭제 (트랜잭션 안이면 커밋 후)
+   * 커밋 전에 지우면 그 사이 들어온 요청이 변경 전 정보를 다시 캐싱하므로 커밋 후에 지움
+   * 다른 서버의 캐시는 TTL 이 지나면 갱신됨
+   */
+  public void evictUser(String email) {
+    AfterCommit.run(() -> evictNow(email));
+  }
+
+  private void evictNow(String email) {
+    evictions.incrementAndGet();
+    userCache.remove(email);
   }
 }
@@ -1,9 +1,7 @@
 package community.ddv.domain.user.service;
 
 import community.ddv.domain.board.dto.ReviewRatingDTO;
-import community.ddv.domain.board.entity.Review;
-import community.ddv.domain.board.repository.CommentRepository;
-import community.ddv.domain.board.repository.ReviewRepository;
+import community.ddv.domain.board.service.LatestReviewFeed;
 import community.ddv.domain.certification.Certification;
 import community.ddv.domain.certification.CertificationRepository;
 import community.ddv.domain.certification.constant.CertificationStatus;
@@ -15,6 +13,7 @@ import community.ddv.domain.user.dto.UserInfoDto.OneLineIntroResponseDto;
 import community.ddv.domain.user.dto.UserInfoDto.PasswordUpdateDto;
 import community.ddv.domain.user.dto.UserInfoDto.UserInfoResponseDto;
 import community.ddv.domain.user.entity.User;
+import community.ddv.domain.user.entity.UserStats;
 import community.ddv.domain.user.repository.UserRepository;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
@@ -22,12 +21,9 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -41,9 +37,10 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
-  private final ReviewRepository reviewRepository;
-  private final CommentRepository commentRepository;
+  private final UserStatsService userStatsService;
   private final CertificationRepository certificationRepository;
+  private final UserDetailsServiceImpl userDetailsService;
+  private final LatestReviewFeed latestReviewFeed;
 
   /**
    * 닉네임 수정
@@ -67,6 +64,8 @@ public class UserService {
     }
 
     user.updateNickname(newNickname);
+    userDetailsService.evictUser(user.getEmail());
+    latestReviewFeed.invalidate();
     log.info("[UPDATE_NICKNAME] 닉네임 수정 완료: userId = {}, newNickname = {}", user.getId(), newNickname);
     return new NicknameUpdateResponseDto(newNickname);
   }
@@ -105,6 +104,7 @@ public class UserService {
         throw new DeepdiviewException(ErrorCode.NOT_MATCHED_PASSWORD);
       }
       user.updatePassword(passwordEncoder.encode(newPassword));
+      userDetailsService.evictUser(user.getEmail());
     }
     log.info("[UPDATE_PASSWORD] 비밀번호 변경 완료");
   }
@@ -153,11 +153,7 @@ public class UserService {
     User user = getLoginUser();
     log.info("[MY_INFO] 내 정보 조회: userId = {}", user.getId());
 
-    int reviewCount = reviewRepository.countByUser_Id(user.getId());
-    int commentCount = commentRepository.countByUser_Id(user.getId());
-
-    List<Review> reviews = reviewRepository.findAllByUser_Id(user.getId());
-    ReviewRatingDTO ratingStats = getRatingStats(reviews);
+    UserStats stats = userStatsService.getStats(user.getId());
 
     LocalDate today = LocalDate.now();
     // 일요일이 되면 다음주 토요일로 계산 되는 것 방지용 (일요일을 토요일처럼 생각)
@@ -190,9 +186,9 @@ public class UserService {
         .email((user.getEmail()))
         .profileImageUrl(user.getProfileImageUrl())
         .oneLineIntro(user.getOneLineIntroduction())
-        .reviewCount(reviewCount)
-        .commentCount(commentCount)
-        .ratingStats(ratingStats)
+        .reviewCount((int) stats.getReviewCount())
+        .commentCount((int) stats.getCommentCount())
+        .ratingStats(ReviewRatingDTO.from(stats.getHistogram()))
         .certificationStatus(certificationStatus)
         .rejectionReason(rejectionReason)
         .build();
@@ -213,11 +209,7 @@ public class UserService {
           return new DeepdiviewException(ErrorCode.USER_NOT_FOUND);
         });
 
-    int reviewCount = reviewRepository.countByUser_Id(userId);
-    int commentCount = commentRepository.countByUser_Id(userId);
-
-    List<Review> reviews = reviewRepository.findAllByUser_Id(user.getId());
-    ReviewRatingDTO ratingStats = getRatingStats(reviews);
+    UserStats stats = userStatsService.getStats(userId);
 
     log.info("[GET_OTHERS_INFO] 타인 정보 조회 완료: userId = {}", userId);
 
@@ -225,36 +217,9 @@ public class UserService {
         .nickname(user.getNickname())
         .profileImageUrl(user.getProfileImageUrl())
         .oneLineIntro(user.getOneLineIntroduction())
-        .reviewCount(reviewCount)
-        .commentCount(commentCount)
-        .ratingStats(ratingStats)
-        .build();
-  }
-
-  private ReviewRatingDTO getRatingStats(List<Review> reviews) {
-
-    Map<Double, Long> distribution = reviews.stream()
-        .map(Review::getRating)
-        .collect(Collectors.groupingBy(
-            rating -> rating,
-            Collectors.counting()
-        ));
-
-    Map<Double, Integer> ratingDistribution = new LinkedHashMap<>();
-    for (double i = 0.5; i <= 5.0; i += 0.5) {
-      ratingDistribution.put(i, distribution.getOrDefault(i, 0L).intValue());
-    }
-
-    double ratingAverage = reviews.stream()
-        .mapToDouble(Review::getRating)
-        .average()
-        .orElse(0.0);
-
-    double roundedRating = Math.round(ratingAverage*10.0)/10.0;
-
-    return ReviewRatingDTO.builder()
-        .ratingAverage(roundedRating)
-        .ratingDistribution(ratingDistribution)
+        .reviewCount((int) stats.getReviewCount())
+        .commentCount((int) stats.getCommentCount())
+        .ratingStats(ReviewRatingDTO.from(stats.getHistogram()))
         .build();
   }
 
@@ -267,6 +232,18 @@ public class UserService {
       throw new DeepdiviewException(ErrorCode.UNAUTHORIZED);
     }
 
+    // JwtFilter 가 넣어둔 principal 의 id 로 조회
+    // id 조회는 영속성 컨텍스트를 먼저 보므로, 한 요청 안에서 여러 번 호출해도 DB 조회는 처음 한 번뿐
+    if (authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+      return userRepository.findById(userDetails.getId())
+          .orElseThrow(() -> new DeepdiviewException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 비로그인 요청은 조회하지 않음
+    if (authentication instanceof AnonymousAuthenticationToken) {
+      throw new DeepdiviewException(ErrorCode.UNAUTHORIZED);
+    }
+
     String email = authentication.getName();
 
     return userRepository.findByEmail(email)
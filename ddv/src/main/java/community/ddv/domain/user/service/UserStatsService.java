@@ -0,0 +1,168 @@
+package community.ddv.domain.user.service;
+
+import community.ddv.domain.board.entity.Review;
+import community.ddv.domain.board.repository.CommentRepository;
+import community.ddv.domain.board.repository.ReviewRepository;
+import community.ddv.domain.user.entity.UserStats;
+import community.ddv.domain.user.repository.UserStatsRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsService {
+
+  private final UserStatsRepository userStatsRepository;
+  private final ReviewRepository reviewRepository;
+  private final CommentRepository commentRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  /**
+   * 사용자의 리뷰 수, 댓글 수, 별점 분포 조회 (집계 테이블 PK 조회 1회)
+   * @param userId
+   */
+  @Transactional(readOnly = true)
+  public UserStats getStats(Long userId) {
+    return userStatsRepository.findById(userId)
+        .orElseGet(() -> new UserStats(userId));
+  }
+
+  // 리뷰 작성 시 리뷰 수와 별점 반영
+  @Transactional
+  public void reviewCreated(Long userId, Double rating) {
+    getOrCreateForUpdate(userId).reviewAdded(rating);
+  }
+
+  // 리뷰 수정 시 기존 별점을 빼고 새 별점 반영
+  @Transactional
+  public void reviewUpdated(Long userId, Double oldRating, Double newRating) {
+    if (Objects.equals(oldRating, newRating)) {
+      return;
+    }
+    getOrCreateForUpdate(userId).changeRating(oldRating, newRating);
+  }
+
+  /**
+   * 리뷰 삭제 시 작성자의 리뷰 수와 별점, 함께 지워지는 댓글 작성자들의 댓글 수 반영
+   * 리뷰를 지우기 전에 호출해야 댓글 작성자를 알 수 있음
+   * @param review
+   */
+  @Transactional
+  public void reviewDeleted(Review review) {
+    Long authorId = review.getUser().getId();
+
+    // 여러 사용자 행을 잠그므로 교착을 피하기 위해 id 순서대로 잠금
+    Map<Long, Long> commentCounts = new TreeMap<>();
+    commentCounts.put(authorId, 0L);
+    for (Object[] row : commentRepository.countByReviewIdGroupByUser(review.getId())) {
+      commentCounts.put((Long) row[0], (Long) row[1]);
+    }
+
+    commentCounts.forEach((userId, count) -> {
+      UserStats stats = getOrCreateForUpdate(userId);
+      if (userId.equals(authorId)) {
+        stats.reviewRemoved(review.getRating());
+      }
+      stats.addComments(-count);
+    });
+  }
+
+  // 댓글 작성 시 댓글 수 반영
+  @Transactional
+  public void commentCreated(Long userId) {
+    getOrCreateForUpdate(userId).addComments(1);
+  }
+
+  // 댓글 삭제 시 댓글 수 반영
+  @Transactional
+  public void commentDeleted(Long userId) {
+    getOrCreateForUpdate(userId).addComments(-1);
+  }
+
+  /**
+   * 회원 탈퇴 시 집계 삭제, 탈퇴한 사용자의 리뷰와 함께 지워지는 다른 사용자들의 댓글 수 반영
+   * 사용자를 지우기 전에 호출해야 함
+   * @param userId
+   */
+  @Transactional
+  public void userDeleted(Long userId) {
+    Map<Long, Long> commentCounts = new TreeMap<>();
+    for (Object[] row : commentRepository.countOnReviewsOfUserGroupByUser(userId)) {
+      commentCounts.put((Long) row[0], (Long) row[1]);
+    }
+    commentCounts.remove(userId);
+    commentCounts.forEach((commenterId, count) -> getOrCreateForUpdate(commenterId).addComments(-count));
+
+    userStatsRepository.findById(userId).ifPresent(userStatsRepository::delete);
+  }
+
+  // 행이 없으면 먼저 만들고 잠금 (조회 후 save 하면 첫 리뷰/댓글이 동시에 작성될 때 PK 중복 발생)
+  private UserStats getOrCreateForUpdate(Long userId) {
+    userStatsRepository.insertIfAbsent(userId);
+    return userStatsRepository.findForUpdate(userId)
+        .orElseThrow(() -> new IllegalStateException("[USER_STATS] 사용자 활동 집계 행 생성 실패 - userId = " + userId));
+  }
+
+  /**
+   * 리뷰, 댓글 테이블 기준으로 전체 사용자의 활동 집계 재계산
+   * 리뷰/댓글 작성·삭제는 커밋 전에 집계 행을 잠그므로, 사용자 묶음마다 행을 먼저 잠근 뒤 다시 세면 증분 반영이 유실되지 않음
+   */
+  public void rebuildAll() {
+    log.info("[USER_STATS] 사용자 활동 집계 재계산 시작");
+
+    TreeSet<Long> userIds = new TreeSet<>(userStatsRepository.findAllUserIds());
+    userIds.addAll(reviewRepository.findReviewAuthorIds());
+    userIds.addAll(commentRepository.findCommentAuthorIds());
+
+    List<Long> ids = new ArrayList<>(userIds);
+    for (int from = 0; from < ids.size(); from += REBUILD_CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, ids.size()));
+      transactionTemplate.executeWithoutResult(status -> rebuildChunk(chunk));
+    }
+    log.info("[USER_STATS] 사용자 활동 집계 재계산 완료 - 사용자 수 = {}", ids.size());
+  }
+
+  // 잠금 이후에 리뷰/댓글을 읽어야 하므로 묶음마다 새 트랜잭션에서 잠금 → 집계 순서로 실행
+  private void rebuildChunk(List<Long> userIds) {
+    userIds.forEach(userStatsRepository::insertIfAbsent);
+    Map<Long, UserStats> statsByUserId = new HashMap<>();
+    for (UserStats stats : userStatsRepository.findAllForUpdate(userIds)) {
+      stats.reset();
+      statsByUserId.put(stats.getUserId(), stats);
+    }
+
+    for (Object[] row : reviewRepository.countRatingsByUserIds(userIds)) {
+      UserStats stats = statsByUserId.get((Long) row[0]);
+      if (stats != null) {
+        stats.applyReviews((Double) row[1], (Long) row[2]);
+      }
+    }
+    for (Object[] row : commentRepository.countByUserIds(userIds)) {
+      UserStats stats = statsByUserId.get((Long) row[0]);
+      if (stats != null) {
+        stats.addComments((Long) row[1]);
+      }
+    }
+  }
+
+  // 집계 테이블이 비어 있는데 리뷰나 댓글이 존재하는 경우 (최초 배포 등) 재계산
+  public void rebuildIfEmpty() {
+    if (userStatsRepository.count() == 0
+        && (reviewRepository.count() > 0 || commentRepository.count() > 0)) {
+      rebuildAll();
+    }
+  }
+}
@@ -36,13 +36,9 @@ public class VoteMovie {
   private int voteCount;
   private LocalDateTime lastVotedAt;
 
-
-  public void updateLastVotedAt() {
-    this.lastVotedAt = LocalDateTime.now();  // 최초 투표 시점
-  }
-
-  public void plusVoteCount() {
-    this.voteCount++;
-    updateLastVotedAt();  // 득표 시점 업데이트
+  // Redis에 집계된 득표수와 최종 득표시간 반영
+  public void syncVoteResult(int voteCount, LocalDateTime lastVotedAt) {
+    this.voteCount = voteCount;
+    this.lastVotedAt = lastVotedAt;
   }
 }
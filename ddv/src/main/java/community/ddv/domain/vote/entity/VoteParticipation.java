@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +18,9 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
+// 한 사용자는 한 투표에 한 번만 참여 (Redis 참여자 Set 이 유실/복구 중이어도 DB 에서 최종적으로 막음)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_vote_participation_user_vote", columnNames = {"user_id", "vote_Id"}))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,40 @@
+package community.ddv.domain.vote.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마감된 투표의 1위 영화 (투표 마감 시 한 번만 기록)
+@Entity
+@Table(indexes = @Index(name = "idx_vote_winner_tmdb_id", columnList = "tmdbId"))
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class VoteWinner {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "vote_id", unique = true, nullable = false)
+  private Vote vote;
+
+  private Long tmdbId; // 1위 영화 (참여자가 없던 투표면 null)
+  private int voteCount; // 1위 영화 득표수
+
+  private LocalDateTime decidedAt; // 기록 시간
+
+}
@@ -0,0 +1,24 @@
+package community.ddv.domain.vote.repository;
+
+import community.ddv.domain.vote.entity.VoteMovie;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VoteMovieRepository extends JpaRepository<VoteMovie, Long> {
+
+  // 특정 투표의 선택지 중 사용자가 고른 영화
+  Optional<VoteMovie> findByVote_IdAndMovie_TmdbId(Long voteId, Long tmdbId);
+
+  // 특정 투표의 모든 선택지 (영화 정보 함께 조회)
+  @Query("""
+      SELECT vm FROM VoteMovie vm
+      JOIN FETCH vm.movie
+      WHERE vm.vote.id = :voteId
+      """)
+  List<VoteMovie> findAllWithMovieByVoteId(@Param("voteId") Long voteId);
+}
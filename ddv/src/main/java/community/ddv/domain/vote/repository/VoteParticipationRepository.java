@@ -3,7 +3,10 @@ package community.ddv.domain.vote.repository;
 import community.ddv.domain.user.entity.User;
 import community.ddv.domain.vote.entity.Vote;
 import community.ddv.domain.vote.entity.VoteParticipation;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +14,21 @@ public interface VoteParticipationRepository extends JpaRepository<VoteParticipa
 
   boolean existsByUserAndVote(User user, Vote vote);
 
+  // 특정 투표의 (userId, 선택한 tmdbId) 목록 - Redis 득표 정보 복구용
+  @Query("""
+      SELECT vp.user.id, vp.selectedVoteMovie.movie.tmdbId
+      FROM VoteParticipation vp
+      WHERE vp.vote.id = :voteId
+      """)
+  List<Object[]> findUserChoicesByVoteId(@Param("voteId") Long voteId);
+
+  // 특정 투표의 영화별 (tmdbId, 득표수, 최종 득표시간) - Redis 득표 정보 복구용 (참여자와 같은 기준으로 집계)
+  @Query("""
+      SELECT vp.selectedVoteMovie.movie.tmdbId, COUNT(vp), MAX(vp.votedAt)
+      FROM VoteParticipation vp
+      WHERE vp.vote.id = :voteId
+      GROUP BY vp.selectedVoteMovie.movie.tmdbId
+      """)
+  List<Object[]> countVotesByVoteId(@Param("voteId") Long voteId);
+
 }
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,4 +25,15 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
   Optional<Vote> findByStartDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
   List<Vote> findTop2ByOrderByStartDateDesc();
+
+  // 가장 최근에 마감된 투표
+  Optional<Vote> findFirstByEndDateBeforeOrderByEndDateDesc(LocalDateTime now);
+
+  // 마감되었지만 1위 영화가 기록되지 않은 투표
+  @Query("""
+      SELECT v FROM Vote v
+      WHERE v.endDate < :now
+        AND NOT EXISTS (SELECT w FROM VoteWinner w WHERE w.vote = v)
+      """)
+  List<Vote> findClosedVotesWithoutWinner(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,34 @@
+package community.ddv.domain.vote.repository;
+
+import community.ddv.domain.vote.entity.VoteWinner;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface VoteWinnerRepository extends JpaRepository<VoteWinner, Long> {
+
+  boolean existsByVote_Id(Long voteId);
+
+  void deleteByVote_Id(Long voteId);
+
+  // 과거 투표에서 1위를 했던 영화 tmdbId 목록 (참여자가 없던 투표는 제외)
+  @Query("SELECT DISTINCT w.tmdbId FROM VoteWinner w WHERE w.tmdbId IS NOT NULL")
+  Set<Long> findAllTmdbIds();
+
+  // 1위 영화 기록 (여러 서버가 같은 투표를 동시에 기록해도 먼저 들어간 한 건만 남음)
+  @Transactional
+  @Modifying
+  @Query(value = """
+      INSERT INTO vote_winner (vote_id, tmdb_id, vote_count, decided_at)
+      VALUES (:voteId, :tmdbId, :voteCount, :decidedAt)
+      ON DUPLICATE KEY UPDATE vote_id = vote_id
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("voteId") Long voteId, @Param("tmdbId") Long tmdbId,
+      @Param("voteCount") int voteCount, @Param("decidedAt") LocalDateTime decidedAt);
+}
@@ -0,0 +1,166 @@
+package community.ddv.domain.vote.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 진행중인 투표의 실시간 득표 정보를 Redis에 보관
+ * vote:{voteId}:counts       - Hash (tmdbId -> 득표수)
+ * vote:{voteId}:last-voted   - Hash (tmdbId -> 최종 득표시간 epoch millis)
+ * vote:{voteId}:participants - Set (참여한 userId, 중복 참여 방지)
+ * vote:{voteId}:choices      - Hash (userId -> 선택한 tmdbId)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteCountService {
+
+  // 투표 마감 후에도 결과 반영/조회를 위해 일정 기간 보관
+  private static final long RETENTION_DAYS = 7;
+
+  // 득표수 증가, 최종 득표시간(더 늦은 값만), 사용자 선택, 만료시간을 한 번에 기록
+  // KEYS: counts, last-voted, choices, participants / ARGV: tmdbId, votedAt(ms), userId, expireAt(s)
+  private static final DefaultRedisScript<Long> RECORD_VOTE_SCRIPT = new DefaultRedisScript<>("""
+      redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+      local last = tonumber(redis.call('HGET', KEYS[2], ARGV[1]))
+      if last == nil or last < tonumber(ARGV[2]) then
+        redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+      end
+      redis.call('HSET', KEYS[3], ARGV[3], ARGV[1])
+      for i = 1, 4 do
+        redis.call('EXPIREAT', KEYS[i], ARGV[4])
+      end
+      return 1
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  private HashOperations<String, String, String> hashOps() {
+    return redisStringTemplate.opsForHash();
+  }
+
+  // 투표 선택지를 0표로 초기화 (이미 존재하는 값은 유지)
+  public void initVote(Long voteId, Collection<Long> tmdbIds, LocalDateTime endDate) {
+    for (Long tmdbId : tmdbIds) {
+      hashOps().putIfAbsent(countsKey(voteId), tmdbId.toString(), "0");
+    }
+    expireAfterEnd(voteId, endDate);
+  }
+
+  public boolean isInitialized(Long voteId) {
+    return Boolean.TRUE.equals(redisStringTemplate.hasKey(countsKey(voteId)));
+  }
+
+  // DB에 저장된 득표 정보로 Redis 복구 (Redis 데이터가 유실된 경우)
+  public void restoreVote(Long voteId, Map<Long, Integer> voteCounts, Map<Long, LocalDateTime> lastVotedAts,
+      Map<Long, Long> userChoices, LocalDateTime endDate) {
+    voteCounts.forEach((tmdbId, count) ->
+        hashOps().putIfAbsent(countsKey(voteId), tmdbId.toString(), String.valueOf(count)));
+    lastVotedAts.forEach((tmdbId, lastVotedAt) ->
+        hashOps().putIfAbsent(lastVotedKey(voteId), tmdbId.toString(), String.valueOf(toEpochMillis(lastVotedAt))));
+    userChoices.forEach((userId, tmdbId) -> {
+      redisStringTemplate.opsForSet().add(participantsKey(voteId), userId.toString());
+      hashOps().putIfAbsent(choicesKey(voteId), userId.toString(), tmdbId.toString());
+    });
+    expireAfterEnd(voteId, endDate);
+  }
+
+  // 참여자 등록 (SADD) - 이미 참여한 사용자면 false
+  public boolean addParticipant(Long voteId, Long userId) {
+    Long added = redisStringTemplate.opsForSet().add(participantsKey(voteId), userId.toString());
+    return added != null && added > 0;
+  }
+
+  public void removeParticipant(Long voteId, Long userId) {
+    redisStringTemplate.opsForSet().remove(participantsKey(voteId), userId.toString());
+  }
+
+  public boolean isParticipant(Long voteId, Long userId) {
+    return Boolean.TRUE.equals(redisStringTemplate.opsForSet().isMember(participantsKey(voteId), userId.toString()));
+  }
+
+  /**
+   * 득표수 증가 & 최종 득표시간, 사용자 선택 기록 (Lua 스크립트 하나로 원자적으로)
+   * 실패하면 득표수를 버려서 다음 조회 때 VoteParticipation 기준으로 다시 채움 (참여자만 있고 득표수가 빠진 상태 방지)
+   */
+  public void recordVote(Long voteId, Long userId, Long tmdbId, LocalDateTime votedAt, LocalDateTime endDate) {
+    try {
+      redisStringTemplate.execute(RECORD_VOTE_SCRIPT,
+          List.of(countsKey(voteId), lastVotedKey(voteId), choicesKey(voteId), participantsKey(voteId)),
+          tmdbId.toString(), String.valueOf(toEpochMillis(votedAt)), userId.toString(),
+          String.valueOf(expireAt(endDate).getEpochSecond()));
+    } catch (RuntimeException e) {
+      log.warn("[VOTE] 득표 기록 실패 - 득표수를 DB 기준으로 다시 채움, voteId = {}, userId = {}", voteId, userId, e);
+      try {
+        redisStringTemplate.delete(countsKey(voteId));
+      } catch (RuntimeException ignored) {
+        // Redis 자체가 안 되면 isInitialized 도 실패하므로 다음 요청에서 다시 확인
+      }
+    }
+  }
+
+  public Map<Long, Integer> getVoteCounts(Long voteId) {
+    Map<Long, Integer> voteCounts = new HashMap<>();
+    hashOps().entries(countsKey(voteId))
+        .forEach((tmdbId, count) -> voteCounts.put(Long.valueOf(tmdbId), Integer.valueOf(count)));
+    return voteCounts;
+  }
+
+  public Map<Long, LocalDateTime> getLastVotedAts(Long voteId) {
+    Map<Long, LocalDateTime> lastVotedAts = new HashMap<>();
+    hashOps().entries(lastVotedKey(voteId))
+        .forEach((tmdbId, millis) -> lastVotedAts.put(Long.valueOf(tmdbId), toLocalDateTime(Long.parseLong(millis))));
+    return lastVotedAts;
+  }
+
+  public Long getUserChoice(Long voteId, Long userId) {
+    String tmdbId = hashOps().get(choicesKey(voteId), userId.toString());
+    return tmdbId != null ? Long.valueOf(tmdbId) : null;
+  }
+
+  private void expireAfterEnd(Long voteId, LocalDateTime endDate) {
+    Instant expireAt = expireAt(endDate);
+    for (String key : new String[]{countsKey(voteId), lastVotedKey(voteId), participantsKey(voteId), choicesKey(voteId)}) {
+      redisStringTemplate.expireAt(key, expireAt);
+    }
+  }
+
+  private Instant expireAt(LocalDateTime endDate) {
+    return endDate.plusDays(RETENTION_DAYS).atZone(ZoneId.systemDefault()).toInstant();
+  }
+
+  private long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+
+  private String countsKey(Long voteId) {
+    return "vote:" + voteId + ":counts";
+  }
+
+  private String lastVotedKey(Long voteId) {
+    return "vote:" + voteId + ":last-voted";
+  }
+
+  private String participantsKey(Long voteId) {
+    return "vote:" + voteId + ":participants";
+  }
+
+  private String choicesKey(Long voteId) {
+    return "vote:" + voteId + ":choices";
+  }
+}
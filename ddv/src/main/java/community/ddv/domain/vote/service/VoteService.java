@@ -12,10 +12,13 @@ import community.ddv.domain.vote.dto.VoteParticipationDTO;
 import community.ddv.domain.vote.entity.Vote;
 import community.ddv.domain.vote.entity.VoteMovie;
 import community.ddv.domain.vote.entity.VoteParticipation;
+import community.ddv.domain.vote.repository.VoteMovieRepository;
 import community.ddv.domain.vote.repository.VoteParticipationRepository;
 import community.ddv.domain.vote.repository.VoteRepository;
+import community.ddv.domain.vote.repository.VoteWinnerRepository;
 import community.ddv.global.exception.DeepdiviewException;
 import community.ddv.global.exception.ErrorCode;
+import community.ddv.global.util.AfterCommit;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,16 +27,19 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +52,9 @@ public class VoteService {
   private final VoteParticipationRepository voteParticipationRepository;
   private final MovieRepository movieRepository;
   private final UserService userService;
+  private final VoteMovieRepository voteMovieRepository;
+  private final VoteCountService voteCountService;
+  private final VoteWinnerRepository voteWinnerRepository;
 
   /**
    * 관리자의 투표 생성 한 주에는 한 번만 투표 생성 가능
@@ -116,6 +125,10 @@ public class VoteService {
       vote.getVoteMovies().add(voteMovie);
     }
     Vote savedVote = voteRepository.save(vote);
+    voteCountService.initVote(
+        savedVote.getId(),
+        top6Movies.stream().map(Movie::getTmdbId).toList(),
+        savedVote.getEndDate());
     log.info("[CREATE_VOTE] 투표 생성 완료 : voteId = {}, 시작시간 = {}, 종료시간 = {}", savedVote.getId(), savedVote.getStartDate(), savedVote.getEndDate());
 
 //    List<Long> tmdbIds = savedVote.getVoteMovies().stream()
@@ -125,17 +138,31 @@ public class VoteService {
 
   }
 
-  // 과거 투표 1위했던 영화 조회 메서드
+  // 과거 투표 1위했던 영화 조회 메서드 (아직 기록되지 않은 마감 투표가 있으면 먼저 기록)
   public Set<Long> getAllPastTopRankMovies() {
-    List<Vote> allVotes = voteRepository.findAll();
-    Set<Long> topTmdbIds = new HashSet<>();
-    for (Vote vote : allVotes) {
+    recordClosedVoteWinners();
+    return voteWinnerRepository.findAllTmdbIds();
+  }
+
+  /**
+   * 마감되었지만 1위 영화가 기록되지 않은 투표들의 최종 득표수를 반영하고 1위 영화 기록
+   * 투표 마감 직후 스케줄러에서 호출되며, 누락된 과거 투표도 함께 채움
+   * 여러 서버에서 동시에 호출되므로 이미 기록된 투표는 건너뛰고, 결과가 없는 투표도 1위 없음(null)으로 기록해 다시 찾지 않음
+   */
+  @Transactional
+  public void recordClosedVoteWinners() {
+    for (Vote vote : voteRepository.findClosedVotesWithoutWinner(LocalDateTime.now())) {
+      flushVoteCounts(vote);
+
       List<VoteMovieResultDTO> resultDTOS = calculateVoteResult(vote);
-      if (!resultDTOS.isEmpty()) {
-        topTmdbIds.add(resultDTOS.get(0).getTmdbId());
+      VoteMovieResultDTO winner = resultDTOS.isEmpty() ? null : resultDTOS.get(0);
+      Long winnerTmdbId = winner != null ? winner.getTmdbId() : null;
+      int inserted = voteWinnerRepository.insertIfAbsent(vote.getId(), winnerTmdbId,
+          winner != null ? winner.getVoteCount() : 0, LocalDateTime.now());
+      if (inserted > 0) {
+        log.info("[VOTE] 투표 1위 영화 기록 : voteId = {}, tmdbId = {}", vote.getId(), winnerTmdbId);
       }
     }
-    return topTmdbIds;
   }
 
 
@@ -191,32 +218,106 @@ public class VoteService {
           return new DeepdiviewException(ErrorCode.INVALID_VOTE_PERIOD);
         });
 
-    // 중복참여 불가
-    boolean alreadyParticipated = voteParticipationRepository.existsByUserAndVote(user, vote);
-    if (alreadyParticipated) {
-      log.warn("[VOTE] 이미 투표에 참여한 사용자: userId = {}", user.getId());
-      throw new DeepdiviewException(ErrorCode.AlREADY_VOTED);
-    }
+    Long voteId = vote.getId();
+    Long userId = user.getId();
+    Long tmdbId = voteParticipationRequestDto.getTmdbId();
+    ensureVoteCounts(vote);
 
     // 영화 선택
-    VoteMovie selectedVotedMovie = vote.getVoteMovies().stream()
-        .filter(voteMovie -> voteMovie.getMovie().getTmdbId().equals(voteParticipationRequestDto.getTmdbId()))
-        .findFirst()
+    VoteMovie selectedVotedMovie = voteMovieRepository.findByVote_IdAndMovie_TmdbId(voteId, tmdbId)
         .orElseThrow(() -> new DeepdiviewException(ErrorCode.MOVIE_NOT_FOUND_IN_VOTE));
 
-    // 투표 저장
+    // 중복참여 불가 (Redis 참여자 Set에 원자적으로 추가)
+    if (!voteCountService.addParticipant(voteId, userId)) {
+      log.warn("[VOTE] 이미 투표에 참여한 사용자: userId = {}", userId);
+      throw new DeepdiviewException(ErrorCode.AlREADY_VOTED);
+    }
+
+    // 투표 저장 (user_id, vote_id unique 제약으로 최종 중복 확인)
     VoteParticipation voteParticipation = VoteParticipation.builder()
         .user(user)
         .vote(vote)
         .selectedVoteMovie(selectedVotedMovie)
         .build();
-    voteParticipationRepository.save(voteParticipation);
-    selectedVotedMovie.plusVoteCount(); // 득표수 증가 & 최종 득표시간 업데이트
+    try {
+      voteParticipationRepository.saveAndFlush(voteParticipation);
+    } catch (DataIntegrityViolationException e) {
+      // DB 에 이미 참여 기록이 있으므로 Redis 참여자 등록은 그대로 둠
+      log.warn("[VOTE] 이미 투표에 참여한 사용자 (DB): userId = {}", userId);
+      throw new DeepdiviewException(ErrorCode.AlREADY_VOTED);
+    } catch (RuntimeException e) {
+      voteCountService.removeParticipant(voteId, userId);
+      throw e;
+    }
+
+    // 커밋되면 득표수 증가 & 최종 득표시간 기록, 롤백되면 참여자 등록 취소
+    LocalDateTime votedAt = LocalDateTime.now();
+    LocalDateTime endDate = vote.getEndDate();
+    AfterCommit.run(
+        () -> voteCountService.recordVote(voteId, userId, tmdbId, votedAt, endDate),
+        () -> voteCountService.removeParticipant(voteId, userId));
 
-    log.info("[VOTE] 투표 참여 완료: userId = {}, voteId = {}, tmdbId = {}", user.getId(), vote.getId(), selectedVotedMovie.getMovie().getTmdbId());
+    log.info("[VOTE] 투표 참여 완료: userId = {}, voteId = {}, tmdbId = {}", userId, voteId, tmdbId);
 
   }
 
+  // Redis에 득표 정보가 없으면 (최초 조회, Redis 유실) DB 기준으로 채움
+  private void ensureVoteCounts(Vote vote) {
+    if (voteCountService.isInitialized(vote.getId())) {
+      return;
+    }
+    log.info("[VOTE] Redis 득표 정보 복구 : voteId = {}", vote.getId());
+
+    // VoteMovie.voteCount 는 주기적으로 반영되는 값이라 늦을 수 있으므로, 참여자와 같은 VoteParticipation 기준으로 집계
+    Map<Long, Integer> voteCounts = new HashMap<>();
+    Map<Long, LocalDateTime> lastVotedAts = new HashMap<>();
+    for (VoteMovie voteMovie : voteMovieRepository.findAllWithMovieByVoteId(vote.getId())) {
+      voteCounts.put(voteMovie.getMovie().getTmdbId(), 0);
+    }
+    for (Object[] row : voteParticipationRepository.countVotesByVoteId(vote.getId())) {
+      Long tmdbId = (Long) row[0];
+      voteCounts.put(tmdbId, ((Long) row[1]).intValue());
+      if (row[2] != null) {
+        lastVotedAts.put(tmdbId, (LocalDateTime) row[2]);
+      }
+    }
+
+    Map<Long, Long> userChoices = new HashMap<>();
+    for (Object[] row : voteParticipationRepository.findUserChoicesByVoteId(vote.getId())) {
+      userChoices.put((Long) row[0], (Long) row[1]);
+    }
+
+    voteCountService.restoreVote(vote.getId(), voteCounts, lastVotedAts, userChoices, vote.getEndDate());
+  }
+
+  /**
+   * Redis에 집계된 득표수를 VoteMovie에 반영 (write-behind)
+   */
+  private void flushVoteCounts(Vote vote) {
+    if (!voteCountService.isInitialized(vote.getId())) {
+      return;
+    }
+    Map<Long, Integer> voteCounts = voteCountService.getVoteCounts(vote.getId());
+    Map<Long, LocalDateTime> lastVotedAts = voteCountService.getLastVotedAts(vote.getId());
+
+    for (VoteMovie voteMovie : voteMovieRepository.findAllWithMovieByVoteId(vote.getId())) {
+      Long tmdbId = voteMovie.getMovie().getTmdbId();
+      voteMovie.syncVoteResult(
+          voteCounts.getOrDefault(tmdbId, voteMovie.getVoteCount()),
+          lastVotedAts.getOrDefault(tmdbId, voteMovie.getLastVotedAt()));
+    }
+  }
+
+  // 10초마다 진행중인 투표의 득표수를 DB에 반영
+  @Scheduled(fixedDelay = 10000)
+  @Transactional
+  public void flushCurrentVoteCounts() {
+    LocalDateTime now = LocalDateTime.now();
+    voteRepository.findByStartDateBeforeAndEndDateAfter(now, now)
+        .ifPresent(this::flushVoteCounts);
+  }
+
+
   /**
    * 투표 결과 계산 메서드
    */
@@ -233,28 +334,47 @@ public class VoteService {
           .orElse(null);
     }
 
-    // 2. 득표수 기준 내림차순 정렬 -> 동수 발생시, 마지막 투표시간 기준 내림차순 정렬
-    List<VoteMovie> sortedVoteMovies = vote.getVoteMovies().stream()
+    // 2. DB 에 반영된 득표수, 마지막 투표시간으로 순위 계산
+    Map<Long, Integer> voteCounts = new HashMap<>();
+    Map<Long, LocalDateTime> lastVotedAts = new HashMap<>();
+    for (VoteMovie voteMovie : vote.getVoteMovies()) {
+      Long tmdbId = voteMovie.getMovie().getTmdbId();
+      voteCounts.put(tmdbId, voteMovie.getVoteCount());
+      if (voteMovie.getLastVotedAt() != null) {
+        lastVotedAts.put(tmdbId, voteMovie.getLastVotedAt());
+      }
+    }
+    return rankVoteResults(voteCounts, lastVotedAts, userId, selectedTmdbId);
+  }
+
+  /**
+   * 득표수 기준 내림차순 정렬 -> 동수 발생시, 마지막 투표시간 기준 내림차순 정렬 (없으면 마지막), 그래도 같으면 tmdbId 순
+   * 진행중인 투표(Redis)와 마감된 투표(DB) 결과가 같은 기준으로 순위를 매기도록 한 곳에서 계산
+   * @param userId 조회한 사용자 (null 이면 voted 를 채우지 않음)
+   * @param selectedTmdbId 사용자가 선택한 영화
+   */
+  private List<VoteMovieResultDTO> rankVoteResults(Map<Long, Integer> voteCounts,
+      Map<Long, LocalDateTime> lastVotedAts, Long userId, Long selectedTmdbId) {
+
+    List<Long> sortedTmdbIds = voteCounts.keySet().stream()
         .sorted(
-            Comparator.comparing(VoteMovie::getVoteCount).reversed()
+            Comparator.comparing((Long tmdbId) -> voteCounts.get(tmdbId)).reversed()
                 .thenComparing(
-                    VoteMovie::getLastVotedAt,
+                    lastVotedAts::get,
                     Comparator.nullsLast(Comparator.reverseOrder())) // null은 마지막으로
+                .thenComparing(Comparator.naturalOrder())
         ).toList();
 
-    // 3. 정렬된 투표결과 DTO 생성
     List<VoteMovieResultDTO> voteResults = new ArrayList<>();
     int rank = 1;
-    for (VoteMovie voteMovie : sortedVoteMovies) {
-      Movie movie = voteMovie.getMovie();
-      VoteMovieResultDTO voteResultDto = VoteMovieResultDTO.builder()
-          .tmdbId(movie.getTmdbId())
-          .voteCount(voteMovie.getVoteCount())
+    for (Long tmdbId : sortedTmdbIds) {
+      voteResults.add(VoteMovieResultDTO.builder()
+          .tmdbId(tmdbId)
+          .voteCount(voteCounts.get(tmdbId))
           .rank(rank++)
-          .lastVotedTime(voteMovie.getLastVotedAt())
-          .voted(userId != null ? voteMovie.getMovie().getTmdbId().equals(selectedTmdbId) : null)
-          .build();
-      voteResults.add(voteResultDto);
+          .lastVotedTime(lastVotedAts.get(tmdbId))
+          .voted(userId != null ? tmdbId.equals(selectedTmdbId) : null)
+          .build());
     }
     return voteResults;
   }
@@ -296,7 +416,14 @@ public class VoteService {
         .orElseThrow(() -> new DeepdiviewException(ErrorCode.VOTE_NOT_FOUND));
 
     log.info("[VOTE] 현재 진행중인 투표 결과 조회");
-    return createVoteResultDto(currentVote, userId);
+    ensureVoteCounts(currentVote);
+
+    Long voteId = currentVote.getId();
+    Map<Long, Integer> voteCounts = voteCountService.getVoteCounts(voteId);
+    Map<Long, LocalDateTime> lastVotedAts = voteCountService.getLastVotedAts(voteId);
+    Long selectedTmdbId = userId != null ? voteCountService.getUserChoice(voteId, userId) : null;
+
+    return new VoteResultDTO(rankVoteResults(voteCounts, lastVotedAts, userId, selectedTmdbId));
   }
 
 
@@ -362,6 +489,7 @@ public class VoteService {
     Vote vote = voteRepository.findById(voteId)
         .orElseThrow(() -> new DeepdiviewException(ErrorCode.VOTE_NOT_FOUND));
 
+    voteWinnerRepository.deleteByVote_Id(voteId);
     voteRepository.delete(vote);
     log.info("[VOTE] 투표 삭제 완료 voteId = {}", voteId);
 
@@ -379,7 +507,8 @@ public class VoteService {
     Vote currentVote = voteRepository.findByStartDateBeforeAndEndDateAfter(now, now)
         .orElseThrow(() -> new DeepdiviewException(ErrorCode.INVALID_VOTE_PERIOD));
 
-    return voteParticipationRepository.existsByUserAndVote(user, currentVote);
+    ensureVoteCounts(currentVote);
+    return voteCountService.isParticipant(currentVote.getId(), user.getId());
   }
 }
 
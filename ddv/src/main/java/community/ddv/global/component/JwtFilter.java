@@ -1,6 +1,5 @@
 package community.ddv.global.component;
 
-import community.ddv.domain.user.constant.Role;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -11,7 +10,6 @@ import java.io.IOException;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -28,7 +26,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
   private final JwtProvider jwtProvider;
   private final UserDetailsService userDetailsService;
-  private final RedisTemplate<String, String> redisStringTemplate;
+  private final TokenBlacklist tokenBlacklist;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -38,24 +36,20 @@ public class JwtFilter extends OncePerRequestFilter {
     String token = jwtProvider.extractToken(request);
     try {
       if (token != null) {
-        String isBlacked = redisStringTemplate.opsForValue().get(token);
-        if ("logout".equals(isBlacked)) {
+        if (tokenBlacklist.isRevoked(token)) {
           log.warn("[TOKEN] 블랙리스트로 등록된 토큰. 접근 거부");
           setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
           return;
         }
 
-        if (jwtProvider.validateToken(token)) {
-          String email = jwtProvider.extractEmail(token);
-          Role role = jwtProvider.getRoleFromToken(token);
+        VerifiedToken verifiedToken = jwtProvider.verify(request, token);
 
-          UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-          Authentication authentication = new UsernamePasswordAuthenticationToken(
-              userDetails,
-              null,
-              Collections.singletonList(new SimpleGrantedAuthority(role.name())));
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(verifiedToken.getEmail());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+            userDetails,
+            null,
+            Collections.singletonList(new SimpleGrantedAuthority(verifiedToken.getRole().name())));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
       }
       filterChain.doFilter(request, response);
 
@@ -1,9 +1,12 @@
 package community.ddv.global.component;
 
 import community.ddv.domain.user.constant.Role;
+import community.ddv.global.util.ExpiringLruCache;
+import community.ddv.global.util.TokenHash;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +31,7 @@ public class JwtProvider {
   @Value("${spring.jwt.secret}")
   private String secretKey;
   private SecretKey key;
+  private JwtParser parser;
 
 
   // 엑세스 토큰 만료시간 : 1시간
@@ -38,12 +42,20 @@ public class JwtProvider {
   public static final String TOKEN_HEADER = "Authorization";
   public static final String TOKEN_PREFIX = "Bearer ";
 
+  // 한 요청 안에서 검증 결과를 공유하기 위한 request attribute
+  private static final String VERIFIED_TOKEN_ATTRIBUTE = JwtProvider.class.getName() + ".VERIFIED_TOKEN";
+  // 최근 검증한 엑세스 토큰 (토큰 SHA-256 → 검증 결과, 토큰 만료 시각까지만 보관)
+  private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+  private final ExpiringLruCache<String, VerifiedToken> verifiedTokenCache =
+      new ExpiringLruCache<>(VERIFIED_TOKEN_CACHE_SIZE);
+
   @PostConstruct
   public void init() {
     if (secretKey == null || secretKey.isEmpty()) {
       throw new IllegalArgumentException("JWT 비밀키가 없습니다.");
     }
     key = new SecretKeySpec(secretKey.getBytes(), "HmacSHA256");
+    parser = Jwts.parser().verifyWith(key).build(); // 파서는 thread-safe 하므로 한 번만 생성
   }
 
 
@@ -81,11 +93,33 @@ public class JwtProvider {
 
   // 토큰에서 payload(내용) 꺼내기
   public Claims extractClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(key)
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  /**
+   * 엑세스 토큰 서명 검증 + 파싱 (요청당 한 번)
+   * 같은 요청에서 다시 호출하면 request attribute 의 결과를, 최근 검증한 토큰이면 캐시된 결과를 반환
+   * @throws ExpiredJwtException 만료된 토큰 (캐시는 만료 시각까지만 보관하므로 만료 후에는 항상 다시 검증)
+   * @throws JwtException 잘못된 토큰
+   */
+  public VerifiedToken verify(HttpServletRequest request, String token) {
+    if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verifiedToken) {
+      return verifiedToken;
+    }
+
+    String tokenHash = TokenHash.sha256Hex(token);
+    VerifiedToken verifiedToken = verifiedTokenCache.get(tokenHash);
+    if (verifiedToken == null) {
+      Claims claims = extractClaims(token);
+      verifiedToken = new VerifiedToken(
+          claims.getSubject(),
+          Role.valueOf(claims.get("role", String.class)),
+          claims.getExpiration().getTime());
+      verifiedTokenCache.put(tokenHash, verifiedToken, verifiedToken.getExpiration());
+    }
+
+    request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+    return verifiedToken;
   }
 
   // 토큰에서 이메일 추출
@@ -93,35 +127,15 @@ public class JwtProvider {
     return extractClaims(token).getSubject();
   }
 
-  // 토큰에서 역할 추출
-  public Role getRoleFromToken(String token) {
-    return Role.valueOf(extractClaims(token).get("role", String.class));
-  }
-
   // 토큰에서 만료시간 추출
   public long getExpirationTimeFromToken(String token) {
     return extractClaims(token).getExpiration().getTime();
   }
 
-  // 토큰에서 사용자 정보를 꺼내어 SpringSecurity가 이해할 수 있는 인증객체(Authentication) 반환
-  public Authentication getAuthentication(String token) {
-    String email = extractEmail(token);
-    Role role = getRoleFromToken(token);
-    List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role.name()));
-    return new UsernamePasswordAuthenticationToken(email, null, authorities); // // 고유식별자(이메일), 인증정보(jwt에서는 null), authorities(권한)
-  }
-
-  // 토큰이 유효한지 검증하는 메서드
-  public boolean validateToken(String token) {
-    try {
-      extractClaims(token);
-      return true;
-    } catch (ExpiredJwtException e) {
-      throw e;
-    } catch (JwtException e) {
-      log.warn("[TOKEN] 잘못된 JWT 토큰");
-      throw e;
-    }
+  // 검증된 토큰에서 사용자 정보를 꺼내어 SpringSecurity가 이해할 수 있는 인증객체(Authentication) 반환
+  public Authentication getAuthentication(VerifiedToken verifiedToken) {
+    List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(verifiedToken.getRole().name()));
+    return new UsernamePasswordAuthenticationToken(verifiedToken.getEmail(), null, authorities); // // 고유식별자(이메일), 인증정보(jwt에서는 null), authorities(권한)
   }
 
   // 토큰 유효성 여부 확인 후 T/F 반환
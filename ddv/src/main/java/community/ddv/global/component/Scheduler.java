@@ -1,12 +1,23 @@
 package community.ddv.global.component;
 
+import community.ddv.domain.board.service.ReviewLikeCounter;
+import community.ddv.domain.board.service.ReviewService;
 import community.ddv.domain.certification.CertificationService;
+import community.ddv.domain.movie.event.MovieCatalogUpdatedEvent;
 import community.ddv.domain.movie.service.MovieApiService;
+import community.ddv.domain.movie.service.MovieRatingStatsService;
+import community.ddv.domain.movie.service.MovieTitleAutocomplete;
+import community.ddv.domain.movie.service.MovieTitleIndex;
 import community.ddv.domain.notification.NotificationService;
+import community.ddv.domain.user.service.UserStatsService;
+import community.ddv.domain.vote.service.VoteService;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,14 +30,24 @@ public class Scheduler {
   private final CacheManager cacheManager;
   private final CertificationService certificationService;
   private final NotificationService notificationService;
+  private final MovieRatingStatsService movieRatingStatsService;
+  private final VoteService voteService;
+  private final MovieTitleIndex movieTitleIndex;
+  private final MovieTitleAutocomplete movieTitleAutocomplete;
+  private final ReviewService reviewService;
+  private final ReviewLikeCounter reviewLikeCounter;
+  private final UserStatsService userStatsService;
 
   // 매주 일요일 0시 0분 5초에 영화 데이터 업데이트하면서 인기 영화 목록 캐시 초기화
   @Scheduled(cron = "5 0 0 * * SUN")
   public void updateMovieApi() {
     log.info("[SCHEDULER] 영화정보 업데이트를 시작");
-    movieApiService.fetchAndSaveMovies();
+    MovieCatalogUpdatedEvent changes = movieApiService.fetchAndSaveMovies();
     log.info("[SCHEDULER] 영화정보 업데이트를 완료");
-    clearTopMoviesCache();
+    // 바뀐 영화가 없으면 인기 영화 목록도 그대로이므로 캐시 유지
+    if (!changes.isEmpty()) {
+      clearTopMoviesCache();
+    }
   }
 
   public void clearTopMoviesCache() {
@@ -45,9 +66,20 @@ public class Scheduler {
     log.info("[SCHEDULER] 런타임정보 업데이트를 완료");
   }
 
-  // 매주 일요일 0시 0분 0초 지난 주 1위 영화 캐시 초기화
+  // 서버 시작 시 이전 런타임 업데이트가 중간에 끊겼다면 체크포인트부터 이어서 진행 (서버 시작을 막지 않도록 별도 스레드)
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeMovieRuntimeApi() {
+    if (movieApiService.hasRuntimeCheckpoint()) {
+      log.info("[SCHEDULER] 중단된 런타임정보 업데이트를 이어서 시작");
+      CompletableFuture.runAsync(movieApiService::fetchMovieRunTime);
+    }
+  }
+
+  // 매주 일요일 0시 0분 0초 마감된 투표의 최종 득표수와 1위 영화 기록 후 지난 주 1위 영화 캐시 초기화
   @Scheduled(cron = "0 0 0 * * SUN")
   public void clearTopRankMovieCache() {
+    voteService.recordClosedVoteWinners();
+
     Cache topVotedCache = cacheManager.getCache("topRankMovie");
 
     if (topVotedCache != null) {
@@ -73,5 +105,63 @@ public class Scheduler {
     log.info("[SCHEDULER] 31일 이상 지난 알림 삭제 완료");
   }
 
-}
+  // 서버 시작 시 영화별 별점 집계가 비어 있으면 리뷰 테이블 기준으로 생성
+  @EventListener(ApplicationReadyEvent.class)
+  public void initMovieRatingStats() {
+    movieRatingStatsService.rebuildIfEmpty();
+  }
+
+  // 서버 시작 시 사용자 활동 집계가 비어 있으면 리뷰, 댓글 테이블 기준으로 생성
+  @EventListener(ApplicationReadyEvent.class)
+  public void initUserStats() {
+    userStatsService.rebuildIfEmpty();
+  }
+
+  // 서버 시작 시 1위 영화가 기록되지 않은 과거 투표 채우기
+  @EventListener(ApplicationReadyEvent.class)
+  public void initVoteWinners() {
+    voteService.recordClosedVoteWinners();
+  }
 
+  // 서버 시작 시 영화 정규화 제목/노출 여부를 채운 뒤 제목 검색/자동완성 색인 생성
+  @EventListener(ApplicationReadyEvent.class)
+  public void initMovieTitleIndex() {
+    movieApiService.backfillDerivedColumns();
+    movieTitleIndex.rebuild();
+    movieTitleAutocomplete.rebuildAsync();
+  }
+
+  // 매일 새벽 4시, 영화별 별점 집계 재계산 (증분 반영 중 생긴 오차 보정)
+  @Scheduled(cron = "0 0 4 * * *")
+  public void rebuildMovieRatingStats() {
+    log.info("[SCHEDULER] 영화별 별점 집계 재계산 시작");
+    movieRatingStatsService.rebuildAll();
+    log.info("[SCHEDULER] 영화별 별점 집계 재계산 완료");
+  }
+
+  // 매일 새벽 4시 10분, 사용자 활동 집계 재계산 (회원 탈퇴 등으로 생긴 오차 보정)
+  @Scheduled(cron = "0 10 4 * * *")
+  public void rebuildUserStats() {
+    log.info("[SCHEDULER] 사용자 활동 집계 재계산 시작");
+    userStatsService.rebuildAll();
+    log.info("[SCHEDULER] 사용자 활동 집계 재계산 완료");
+  }
+
+  // 매일 새벽 4시 30분, 리뷰 좋아요 수를 likes 테이블 기준으로 재계산 (Redis 카운터 반영 중 생긴 오차 보정)
+  @Scheduled(cron = "0 30 4 * * *")
+  public void reconcileReviewLikeCounts() {
+    log.info("[SCHEDULER] 리뷰 좋아요 수 재계산 시작");
+    reviewLikeCounter.reconcile();
+    log.info("[SCHEDULER] 리뷰 좋아요 수 재계산 완료");
+  }
+
+  // 서버 시작 시 최신 리뷰 피드를 DB 기준으로 다시 생성
+  @EventListener(ApplicationReadyEvent.class)
+  public void initLatestReviewFeed() {
+    try {
+      reviewService.rebuildLatestReviewFeed();
+    } catch (RuntimeException e) {
+      log.warn("[SCHEDULER] 최신 리뷰 피드 생성 실패 - 첫 조회 때 다시 시도", e);
+    }
+  }
+}
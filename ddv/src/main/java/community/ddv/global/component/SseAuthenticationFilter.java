@@ -1,5 +1,6 @@
 package community.ddv.global.component;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,25 +27,29 @@ public class SseAuthenticationFilter extends OncePerRequestFilter {
 
     if (acceptHeader != null && acceptHeader.contains("text/event-stream")) {
 
-      String token = extractTokenForSse(request);
+      String token = jwtProvider.extractToken(request);
 
-      if (token == null || !jwtProvider.validateToken(token)) {
+      if (token == null) {
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
         return;
       }
 
-      Authentication authentication = jwtProvider.getAuthentication(token);
-      SecurityContextHolder.getContext().setAuthentication(authentication);
+      // JwtFilter 에서 검증한 결과를 그대로 사용
+      VerifiedToken verifiedToken;
+      try {
+        verifiedToken = jwtProvider.verify(request, token);
+      } catch (JwtException e) {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        return;
+      }
+
+      // JwtFilter 가 이미 인증했다면 그 인증 정보를 유지
+      if (SecurityContextHolder.getContext().getAuthentication() == null) {
+        Authentication authentication = jwtProvider.getAuthentication(verifiedToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+      }
     }
 
     filterChain.doFilter(request, response);
   }
-
-  private String extractTokenForSse(HttpServletRequest request) {
-    String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
-    if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-      return bearerToken.substring(7); // "Bearer " 이후 토큰 부분만 추출
-    }
-    return null;
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package community.ddv.global.component;
+
+import community.ddv.global.util.BloomFilter;
+import community.ddv.global.util.TokenHash;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃/탈퇴로 무효화된 엑세스 토큰 관리
+ * - Redis : {token} = "logout" (남은 유효시간 동안), token-blacklist:index (토큰 지문 → 만료 시각)
+ *           token-blacklist:legacy-indexed (기존 토큰을 index 로 옮겼는지 여부, 만료 없음)
+ * - 각 서버는 토큰 지문(SHA-256)의 Bloom filter 를 메모리에 두고, filter 에 걸린 경우에만 Redis 를 조회
+ * - 다른 서버에서 등록한 토큰은 pub/sub 으로 filter 에 추가, 주기적으로 index 에서 만료된 토큰을 빼고 filter 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklist {
+
+  private static final String BLACKLIST_VALUE = "logout";
+  private static final String INDEX_KEY = "token-blacklist:index";
+  private static final String LEGACY_INDEXED_KEY = "token-blacklist:legacy-indexed";
+  private static final String REVOKED_CHANNEL = "token-blacklist:revoked";
+  private static final long MIN_EXPECTED_INSERTIONS = 10_000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private volatile BloomFilter filter = new BloomFilter(MIN_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+  // 재구성 중에 추가된 지문 (재구성이 끝나면 새 filter 에도 추가)
+  private List<byte[]> addedDuringRebuild;
+
+  @PostConstruct
+  public void init() {
+    redisMessageListenerContainer.addMessageListener(
+        (message, pattern) -> addLocal(HexFormat.of().parseHex(
+            new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(REVOKED_CHANNEL));
+    indexLegacyEntries();
+    rebuild();
+  }
+
+  // index 도입 이전에 등록된 블랙리스트 토큰(JWT 는 "eyJ" 로 시작)을 index 에 한 번 옮김
+  // index 는 로그아웃이 없는 기간에 비어 없어질 수 있으므로, 옮긴 뒤 남기는 플래그로 완료 여부를 판단
+  private void indexLegacyEntries() {
+    try {
+      if (Boolean.TRUE.equals(redisStringTemplate.hasKey(LEGACY_INDEXED_KEY))) {
+        return;
+      }
+    } catch (RuntimeException e) {
+      log.warn("[TOKEN] 기존 블랙리스트 토큰 색인 여부 확인 실패: {}", e.getMessage());
+      return;
+    }
+    int indexed = 0;
+    try (Cursor<String> keys = redisStringTemplate.scan(ScanOptions.scanOptions().match("eyJ*").count(1000).build())) {
+      while (keys.hasNext()) {
+        String token = keys.next();
+        Long remainTime = redisStringTemplate.getExpire(token, TimeUnit.MILLISECONDS);
+        if (remainTime != null && remainTime > 0
+            && BLACKLIST_VALUE.equals(redisStringTemplate.opsForValue().get(token))) {
+          redisStringTemplate.opsForZSet().add(INDEX_KEY,
+              TokenHash.sha256Hex(token), System.currentTimeMillis() + remainTime);
+          indexed++;
+        }
+      }
+      redisStringTemplate.opsForValue().set(LEGACY_INDEXED_KEY, "1");
+    } catch (RuntimeException e) {
+      // 플래그를 남기지 않았으므로 다음 기동 때 다시 시도
+      log.warn("[TOKEN] 기존 블랙리스트 토큰 색인 실패: {}", e.getMessage());
+      return;
+    }
+    log.info("[TOKEN] 기존 블랙리스트 토큰 색인 완료: {}개", indexed);
+  }
+
+  /**
+   * 토큰을 남은 유효시간 동안 블랙리스트로 등록
+   * @param remainTime 남은 유효시간 (ms)
+   */
+  public void revoke(String token, long remainTime) {
+    byte[] fingerprint = TokenHash.sha256(token);
+    String hex = HexFormat.of().formatHex(fingerprint);
+
+    redisStringTemplate.opsForValue().set(token, BLACKLIST_VALUE, remainTime, TimeUnit.MILLISECONDS);
+    redisStringTemplate.opsForZSet().add(INDEX_KEY, hex, System.currentTimeMillis() + remainTime);
+
+    addLocal(fingerprint);
+    redisStringTemplate.convertAndSend(REVOKED_CHANNEL, hex);
+  }
+
+  // filter 에 없으면 Redis 조회 없이 false
+  public boolean isRevoked(String token) {
+    if (!filter.mightContain(TokenHash.sha256(token))) {
+      return false;
+    }
+    return BLACKLIST_VALUE.equals(redisStringTemplate.opsForValue().get(token));
+  }
+
+  private synchronized void addLocal(byte[] fingerprint) {
+    filter.add(fingerprint);
+    if (addedDuringRebuild != null) {
+      addedDuringRebuild.add(fingerprint);
+    }
+  }
+
+  // 만료된 토큰을 index 에서 지우고 filter 재구성 (pub/sub 메시지 유실 보정)
+  @Scheduled(fixedDelay = 60000)
+  public void rebuild() {
+    synchronized (this) {
+      addedDuringRebuild = new ArrayList<>();
+    }
+
+    BloomFilter newFilter;
+    int count;
+    try {
+      long now = System.currentTimeMillis();
+      redisStringTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+      Set<String> fingerprints = redisStringTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+      count = fingerprints == null ? 0 : fingerprints.size();
+
+      newFilter = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, count * 2L), FALSE_POSITIVE_RATE);
+      if (fingerprints != null) {
+        fingerprints.forEach(hex -> newFilter.add(HexFormat.of().parseHex(hex)));
+      }
+    } catch (RuntimeException e) {
+      log.warn("[TOKEN] 블랙리스트 filter 재구성 실패: {}", e.getMessage());
+      synchronized (this) {
+        addedDuringRebuild = null;
+      }
+      return;
+    }
+
+    synchronized (this) {
+      addedDuringRebuild.forEach(newFilter::add);
+      addedDuringRebuild = null;
+      filter = newFilter;
+    }
+    log.debug("[TOKEN] 블랙리스트 filter 재구성 완료: {}개", count);
+  }
+}
@@ -0,0 +1,17 @@
+package community.ddv.global.component;
+
+import community.ddv.domain.user.constant.Role;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증이 끝난 엑세스 토큰의 내용
+ * JwtProvider.verify 로만 생성되며, 한 요청 안에서 필터들이 함께 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+  private final String email;
+  private final Role role;
+  private final long expiration; // epoch millis
+}
@@ -0,0 +1,27 @@
+package community.ddv.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+  /**
+   * MySQL 드라이버가 JDBC 배치를 multi-row insert 한 번으로 보내도록 설정 (MovieBulkRepository 배치 쓰기용)
+   * application.yml 은 배포 환경에서 주입되므로 JDBC URL 대신 커넥션 풀 생성 전에 드라이버 속성으로 넣음
+   */
+  @Bean
+  public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+          dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        }
+        return bean;
+      }
+    };
+  }
+}
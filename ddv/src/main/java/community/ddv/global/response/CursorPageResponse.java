@@ -1,5 +1,6 @@
 package community.ddv.global.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -13,5 +14,11 @@ public class CursorPageResponse<T> {
   private LocalDateTime nextCreatedAt; // 마지막 생성시간
   private Long nextId; // 마지막 ID
   private boolean hasNext; // 더 많은 데이터가 있는지 여부
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Integer nextLikeCount; // 마지막 좋아요 수 (좋아요순 정렬일 때만)
+
+  public CursorPageResponse(List<T> content, LocalDateTime nextCreatedAt, Long nextId, boolean hasNext) {
+    this(content, nextCreatedAt, nextId, hasNext, null);
+  }
 
 }
@@ -0,0 +1,51 @@
+package community.ddv.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 Redis/캐시/알림 같은 DB 밖의 부수 효과를 실행
+ * 트랜잭션 밖에서 호출하면 커밋된 것으로 보고 바로 실행
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {
+  }
+
+  // 커밋 후 실행 (롤백되면 실행하지 않음)
+  public static void run(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+
+  // 커밋되면 onCommit, 커밋되지 않으면(롤백, 결과 알 수 없음) onRollback 실행
+  public static void run(Runnable onCommit, Runnable onRollback) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_COMMITTED) {
+            onCommit.run();
+          } else {
+            onRollback.run();
+          }
+        }
+      });
+    } else {
+      onCommit.run();
+    }
+  }
+
+  // 커밋되지 않으면 실행 (트랜잭션 밖이면 아무것도 하지 않음)
+  public static void onRollback(Runnable action) {
+    run(() -> { }, action);
+  }
+}
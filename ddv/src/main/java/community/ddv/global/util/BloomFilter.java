@@ -0,0 +1,58 @@
+package community.ddv.global.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 해시값(다이제스트)을 입력으로 받는 Bloom filter
+ * mightContain 이 false 면 확실히 없음, true 면 있을 수도 있음 (오탐률 falsePositiveRate)
+ * 비트 설정은 lock-free 라 add 와 mightContain 을 동시에 호출해도 안전
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitSize = Math.max(64, m);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+  }
+
+  /**
+   * @param digest 16바이트 이상의 균일한 해시값 (예: SHA-256)
+   */
+  public void add(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long h1 = buffer.getLong(0);
+    long h2 = buffer.getLong(8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      int word = (int) (index >>> 6);
+      long mask = 1L << (index & 63);
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  public boolean mightContain(byte[] digest) {
+    ByteBuffer buffer = ByteBuffer.wrap(digest);
+    long h1 = buffer.getLong(0);
+    long h2 = buffer.getLong(8);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
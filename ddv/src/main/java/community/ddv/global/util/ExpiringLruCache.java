@@ -0,0 +1,57 @@
+package community.ddv.global.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한(LRU) + 항목별 만료 시각을 가진 간단한 로컬 캐시
+ * 모든 연산은 하나의 락으로 보호됨 (값 조회/교체만 하므로 임계 구역이 짧음)
+ */
+public class ExpiringLruCache<K, V> {
+
+  private final Map<K, Entry<V>> entries;
+
+  public ExpiringLruCache(int maxSize) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  // 만료되었거나 없으면 null
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt <= System.currentTimeMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  /**
+   * @param expiresAt 만료 시각 (epoch millis)
+   */
+  public synchronized void put(K key, V value, long expiresAt) {
+    entries.put(key, new Entry<>(value, expiresAt));
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+  }
+}
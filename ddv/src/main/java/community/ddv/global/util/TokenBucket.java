@@ -0,0 +1,51 @@
+package community.ddv.global.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 요청 속도 제한
+ * 초당 permitsPerSecond 개씩 토큰이 채워지고 최대 capacity 개까지 모아둘 수 있음 (그만큼은 순간적으로 몰려도 허용)
+ * 여러 스레드가 같이 써도 되도록 synchronized 로 보호
+ */
+public class TokenBucket {
+
+  private final double permitsPerNano;
+  private final double capacity;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(double permitsPerSecond, int capacity) {
+    if (permitsPerSecond <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("permitsPerSecond 와 capacity 는 0보다 커야 합니다.");
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.capacity = capacity;
+    this.tokens = capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  /**
+   * 토큰 하나를 얻을 때까지 대기
+   * @throws InterruptedException 대기 중 인터럽트
+   */
+  public void acquire() throws InterruptedException {
+    while (true) {
+      long waitNanos;
+      synchronized (this) {
+        refill();
+        if (tokens >= 1) {
+          tokens -= 1;
+          return;
+        }
+        waitNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+      }
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+    lastRefillNanos = now;
+  }
+}
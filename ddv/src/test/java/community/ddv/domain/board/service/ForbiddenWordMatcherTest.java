@@ -0,0 +1,93 @@
+package community.ddv.domain.board.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ForbiddenWordMatcherTest {
+
+  @Test
+  void masksEveryOccurrence() {
+    ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(Set.of("바보", "멍청"));
+
+    assertEquals("너는 ** 그리고 ** **", matcher.mask("너는 바보 그리고 멍청 바보"));
+  }
+
+  @Test
+  void masksOverlappingAndNestedWords() {
+    ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(Set.of("ab", "bc", "abcd", "d"));
+
+    assertEquals("****e", matcher.mask("abcde"));
+    assertEquals("x**y**", matcher.mask("xbcyab"));
+  }
+
+  @Test
+  void followsFailureLinksAfterPartialMatch() {
+    ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(Set.of("aab", "ab"));
+
+    assertEquals("a***", matcher.mask("aaab"));
+  }
+
+  @Test
+  void returnsInputWhenNothingMatches() {
+    ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(Set.of("금칙어"));
+    String input = "괜찮은 문장";
+
+    assertSame(input, matcher.mask(input));
+    assertNull(matcher.mask(null));
+    assertEquals("", matcher.mask(""));
+  }
+
+  @Test
+  void ignoresEmptyWords() {
+    ForbiddenWordMatcher matcher = ForbiddenWordMatcher.compile(List.of("", "ab"));
+
+    assertEquals(1, matcher.getWordCount());
+    assertEquals("**c", matcher.mask("abc"));
+    assertSame(ForbiddenWordMatcher.empty(), ForbiddenWordMatcher.compile(Set.of()));
+    assertSame(ForbiddenWordMatcher.empty(), ForbiddenWordMatcher.compile(null));
+  }
+
+  // 작은 알파벳의 무작위 금칙어/입력으로 모든 등장 위치를 직접 찾아 가린 결과와 비교
+  @Test
+  void matchesNaiveMaskingOnRandomInputs() {
+    Random random = new Random(20240601L);
+    for (int round = 0; round < 2000; round++) {
+      List<String> words = new ArrayList<>();
+      int wordCount = 1 + random.nextInt(6);
+      for (int i = 0; i < wordCount; i++) {
+        words.add(randomString(random, 1 + random.nextInt(4)));
+      }
+      String input = randomString(random, random.nextInt(30));
+
+      assertEquals(naiveMask(words, input), ForbiddenWordMatcher.compile(words).mask(input),
+          "words = " + words + ", input = " + input);
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append("abc".charAt(random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+
+  private static String naiveMask(List<String> words, String input) {
+    char[] chars = input.toCharArray();
+    for (String word : words) {
+      for (int start = input.indexOf(word); start >= 0; start = input.indexOf(word, start + 1)) {
+        for (int i = start; i < start + word.length(); i++) {
+          chars[i] = '*';
+        }
+      }
+    }
+    return new String(chars);
+  }
+}
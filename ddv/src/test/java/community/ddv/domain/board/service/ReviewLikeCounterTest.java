@@ -0,0 +1,175 @@
+package community.ddv.domain.board.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import community.ddv.domain.board.repository.LikeRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReviewLikeCounterTest {
+
+  private static final Long REVIEW_ID = 10L;
+  private static final Long USER_ID = 7L;
+  private static final String LIKERS_KEY = "review:likers:10";
+  private static final String DIRTY_KEY = "review:likes:dirty";
+  private static final String UPDATE_SQL = "UPDATE review SET like_count = ? WHERE id = ?";
+
+  private static final RedisScript<List> TOGGLE_SCRIPT = script("TOGGLE_SCRIPT");
+  private static final RedisScript<Long> REVERT_SCRIPT = script("REVERT_SCRIPT");
+  private static final RedisScript<Long> LOAD_SCRIPT = script("LOAD_SCRIPT");
+  private static final RedisScript<List> COUNT_SCRIPT = script("COUNT_SCRIPT");
+
+  @SuppressWarnings("unchecked")
+  private final RedisTemplate<String, String> redisStringTemplate = mock(RedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+  private final LikeRepository likeRepository = mock(LikeRepository.class);
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final LatestReviewFeed latestReviewFeed = mock(LatestReviewFeed.class);
+  private final ReviewLikeCounter reviewLikeCounter =
+      new ReviewLikeCounter(redisStringTemplate, likeRepository, jdbcTemplate, latestReviewFeed);
+
+  @SuppressWarnings("unchecked")
+  private static <T> RedisScript<T> script(String name) {
+    return (RedisScript<T>) ReflectionTestUtils.getField(ReviewLikeCounter.class, name);
+  }
+
+  @BeforeEach
+  void setUp() {
+    when(redisStringTemplate.opsForSet()).thenReturn(setOperations);
+  }
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void loadsLikersAndRetriesWhenSetIsMissing() {
+    when(redisStringTemplate.execute(same(TOGGLE_SCRIPT), anyList(), any(Object[].class)))
+        .thenReturn(List.of(-1L), List.of(1L, 3L));
+    when(likeRepository.findUserIdsByReviewId(REVIEW_ID)).thenReturn(List.of(1L, 2L));
+
+    ReviewLikeCounter.ToggleResult result = reviewLikeCounter.toggle(REVIEW_ID, USER_ID);
+
+    assertTrue(result.isLiked());
+    assertEquals(3, result.getLikeCount());
+    // TTL, 로딩 표시, DB 의 좋아요 사용자 순서로 집합 생성
+    verify(redisStringTemplate).execute(same(LOAD_SCRIPT), eq(List.of(LIKERS_KEY)),
+        eq("86400"), eq("-"), eq("1"), eq("2"));
+    verify(redisStringTemplate, times(2)).execute(same(TOGGLE_SCRIPT), eq(List.of(LIKERS_KEY, DIRTY_KEY)),
+        eq("7"), eq("10"), eq("86400"));
+  }
+
+  @Test
+  void revertsToggleWhenTransactionRollsBack() {
+    when(redisStringTemplate.execute(same(TOGGLE_SCRIPT), anyList(), any(Object[].class)))
+        .thenReturn(List.of(1L, 3L));
+    TransactionSynchronizationManager.initSynchronization();
+
+    reviewLikeCounter.toggle(REVIEW_ID, USER_ID);
+    verify(redisStringTemplate, never()).execute(same(REVERT_SCRIPT), anyList(), any(Object[].class));
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // 좋아요였으므로 집합에서 다시 제거("0")
+    verify(redisStringTemplate).execute(same(REVERT_SCRIPT), eq(List.of(LIKERS_KEY, DIRTY_KEY)),
+        eq("7"), eq("10"), eq("0"));
+  }
+
+  @Test
+  void keepsToggleWhenTransactionCommits() {
+    when(redisStringTemplate.execute(same(TOGGLE_SCRIPT), anyList(), any(Object[].class)))
+        .thenReturn(List.of(0L, 2L));
+    TransactionSynchronizationManager.initSynchronization();
+
+    reviewLikeCounter.toggle(REVIEW_ID, USER_ID);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    verify(redisStringTemplate, never()).execute(same(REVERT_SCRIPT), anyList(), any(Object[].class));
+  }
+
+  @Test
+  void requeuesReviewIdsWhenUpdateFails() {
+    when(setOperations.pop(DIRTY_KEY, 500)).thenReturn(List.of("10", "11"));
+    when(redisStringTemplate.execute(same(COUNT_SCRIPT), anyList())).thenReturn(List.of(3L, 5L));
+    when(jdbcTemplate.batchUpdate(eq(UPDATE_SQL), anyList()))
+        .thenThrow(new DataAccessResourceFailureException("db down"));
+
+    reviewLikeCounter.flushDirtyCounts();
+
+    verify(setOperations).add(DIRTY_KEY, "10", "11");
+  }
+
+  @Test
+  void countsFromLikesTableWhenSetIsMissing() {
+    when(setOperations.pop(DIRTY_KEY, 500)).thenReturn(List.of("10", "11"));
+    when(redisStringTemplate.execute(same(COUNT_SCRIPT), anyList())).thenReturn(List.of(3L, -1L));
+
+    reviewLikeCounter.flushDirtyCounts();
+
+    verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL),
+        ArgumentMatchers.<List<Object[]>>argThat(rows -> rows.size() == 1
+            && rows.get(0)[0].equals(3L) && rows.get(0)[1].equals(10L)));
+    verify(jdbcTemplate).batchUpdate(
+        eq("UPDATE review SET like_count = (SELECT COUNT(*) FROM likes WHERE review_id = ?) WHERE id = ?"),
+        ArgumentMatchers.<List<Object[]>>argThat(rows -> rows.size() == 1
+            && rows.get(0)[0].equals(11L) && rows.get(0)[1].equals(11L)));
+    verify(setOperations, never()).add(anyString(), any(String[].class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reconcileDeletesLikerSetsOfMismatchedReviews() {
+    when(setOperations.pop(DIRTY_KEY, 500)).thenReturn(List.of());
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class)))
+        .thenReturn(List.of(new Object[]{2L, 10L}, new Object[]{0L, 11L}));
+
+    reviewLikeCounter.reconcile();
+
+    verify(jdbcTemplate).batchUpdate(eq(UPDATE_SQL), anyList());
+    verify(redisStringTemplate).delete(List.of("review:likers:10", "review:likers:11"));
+    verify(latestReviewFeed).invalidate();
+  }
+
+  @Test
+  void clearsLikerSetsOfDeletedUserAfterCommit() {
+    when(likeRepository.findReviewIdsByUserId(USER_ID)).thenReturn(List.of(10L, 12L));
+    TransactionSynchronizationManager.initSynchronization();
+
+    reviewLikeCounter.userDeleted(USER_ID);
+    verify(redisStringTemplate, never()).delete(anyList());
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    verify(redisStringTemplate).delete(List.of("review:likers:10", "review:likers:12"));
+    verify(setOperations).add(DIRTY_KEY, "10", "12");
+  }
+}
@@ -0,0 +1,220 @@
+package community.ddv.domain.movie.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import community.ddv.domain.movie.entity.Genre;
+import community.ddv.domain.movie.entity.Movie;
+import community.ddv.domain.movie.event.MovieCatalogUpdatedEvent;
+import community.ddv.domain.movie.repostitory.GenreRepository;
+import community.ddv.domain.movie.repostitory.MovieBulkRepository;
+import community.ddv.domain.movie.repostitory.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 녹화한 TMDB discover 응답을 로컬 HttpServer 로 내려주고 목록 수집 흐름 확인
+ */
+class MovieApiServiceTest {
+
+  private static final int CONCURRENCY = 3;
+  private static final long GENRE_ID = 28L;
+
+  private final MovieRepository movieRepository = mock(MovieRepository.class);
+  private final MovieBulkRepository movieBulkRepository = mock(MovieBulkRepository.class);
+  private final GenreRepository genreRepository = mock(GenreRepository.class);
+  @SuppressWarnings("unchecked")
+  private final RedisTemplate<String, String> redisStringTemplate = mock(RedisTemplate.class);
+  private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+  // 페이지 번호 → 녹화한 응답 본문, 응답 지연(ms), 실패시킬 페이지
+  private final Map<Integer, String> pages = new HashMap<>();
+  private final Map<Integer, Long> delays = new HashMap<>();
+  private final Set<Integer> failingPages = new HashSet<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  // upsert 된 영화의 TMDB ID (중복 포함)
+  private final List<Long> upsertedTmdbIds = new ArrayList<>();
+
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private MovieApiService movieApiService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/discover/movie", this::serveDiscoverPage);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    when(genreRepository.findAll()).thenReturn(List.of(new Genre(GENRE_ID, "액션")));
+    doAnswer(invocation -> {
+      List<Movie> movies = invocation.getArgument(0);
+      synchronized (upsertedTmdbIds) {
+        movies.forEach(movie -> upsertedTmdbIds.add(movie.getTmdbId()));
+      }
+      return null;
+    }).when(movieBulkRepository).upsertChunk(any());
+
+    movieApiService = new MovieApiService(movieRepository, movieBulkRepository, genreRepository,
+        new RestTemplate(), eventPublisher, redisStringTemplate, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(movieApiService, "tmdbKey", "test-key");
+    ReflectionTestUtils.setField(movieApiService, "tmdbBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    ReflectionTestUtils.setField(movieApiService, "ingestConcurrency", CONCURRENCY);
+    ReflectionTestUtils.setField(movieApiService, "requestsPerSecond", 100);
+    movieApiService.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    movieApiService.shutdown();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  private void serveDiscoverPage(HttpExchange exchange) throws IOException {
+    int current = inFlight.incrementAndGet();
+    maxInFlight.accumulateAndGet(current, Math::max);
+    try {
+      String query = exchange.getRequestURI().getQuery();
+      int page = Integer.parseInt(query.substring(query.indexOf("page=") + "page=".length()));
+      Thread.sleep(delays.getOrDefault(page, 0L));
+
+      String body = pages.get(page);
+      if (body == null || failingPages.contains(page)) {
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlight.decrementAndGet();
+      exchange.close();
+    }
+  }
+
+  // discover 응답 한 페이지 (TMDB 응답에서 쓰는 필드만)
+  private static String discoverPage(int totalPages, long... tmdbIds) {
+    String results = Arrays.stream(tmdbIds)
+        .mapToObj(id -> """
+            {"id":%d,"title":"영화 %d","original_title":"Movie %d","overview":"","release_date":"2024-01-01",\
+            "popularity":%d.5,"poster_path":"/poster%d.jpg","backdrop_path":null,"genre_ids":[%d]}\
+            """.formatted(id, id, id, id, id, GENRE_ID))
+        .collect(Collectors.joining(","));
+    return "{\"page\":1,\"total_pages\":" + totalPages + ",\"results\":[" + results + "]}";
+  }
+
+  private static Set<Long> ids(long from, long to) {
+    Set<Long> ids = new HashSet<>();
+    for (long id = from; id <= to; id++) {
+      ids.add(id);
+    }
+    return ids;
+  }
+
+  @Test
+  void collectsEveryPageWhenPagesCompleteOutOfOrder() {
+    int totalPages = 8;
+    for (int page = 1; page <= totalPages; page++) {
+      long first = (page - 1) * 10L + 1;
+      pages.put(page, discoverPage(totalPages, first, first + 1, first + 2));
+    }
+    // 앞 페이지일수록 늦게 응답 → 요청 순서와 완료 순서가 뒤바뀜
+    for (int page = 2; page <= totalPages; page++) {
+      delays.put(page, (totalPages - page) * 40L);
+    }
+
+    MovieCatalogUpdatedEvent changes = movieApiService.fetchAndSaveMovies();
+
+    Set<Long> expected = new HashSet<>();
+    for (int page = 1; page <= totalPages; page++) {
+      long first = (page - 1) * 10L + 1;
+      expected.addAll(List.of(first, first + 1, first + 2));
+    }
+    assertEquals(expected, new HashSet<>(upsertedTmdbIds));
+    assertEquals(expected.size(), upsertedTmdbIds.size());
+    assertEquals(expected, changes.getAddedTmdbIds());
+    // 동시에 요청하되 ingestConcurrency 를 넘지 않음
+    assertTrue(maxInFlight.get() > 1, "max in flight " + maxInFlight.get());
+    assertTrue(maxInFlight.get() <= CONCURRENCY, "max in flight " + maxInFlight.get());
+  }
+
+  @Test
+  void deduplicatesMoviesRepeatedAcrossPages() {
+    // 수집 도중 정렬 순서가 밀려 3, 4 번 영화가 다음 페이지에도 나옴
+    pages.put(1, discoverPage(3, 1, 2, 3));
+    pages.put(2, discoverPage(3, 3, 4, 5));
+    pages.put(3, discoverPage(3, 4, 6));
+    delays.put(2, 50L);
+
+    MovieCatalogUpdatedEvent changes = movieApiService.fetchAndSaveMovies();
+
+    assertEquals(6, upsertedTmdbIds.size());
+    assertEquals(ids(1, 6), new HashSet<>(upsertedTmdbIds));
+    assertEquals(ids(1, 6), changes.getAddedTmdbIds());
+  }
+
+  @Test
+  void marksMissingMoviesUnavailableAfterEveryPageFetched() {
+    when(movieRepository.findAvailableTmdbIds()).thenReturn(List.of(1L, 100L));
+    pages.put(1, discoverPage(2, 1, 2));
+    pages.put(2, discoverPage(2, 3));
+
+    MovieCatalogUpdatedEvent changes = movieApiService.fetchAndSaveMovies();
+
+    verify(movieBulkRepository).markUnavailable(Set.of(100L));
+    assertEquals(Set.of(100L), changes.getRemovedTmdbIds());
+  }
+
+  @Test
+  void doesNotMarkUnavailableWhenPageFetchFails() {
+    when(movieRepository.findAvailableTmdbIds()).thenReturn(List.of(1L, 100L));
+    pages.put(1, discoverPage(3, 1, 2));
+    pages.put(2, discoverPage(3, 3));
+    pages.put(3, discoverPage(3, 100));
+    failingPages.add(3);
+
+    MovieCatalogUpdatedEvent changes = movieApiService.fetchAndSaveMovies();
+
+    // 받지 못한 페이지에 있던 100 번 영화가 내려가지 않아야 함
+    verify(movieBulkRepository, never()).markUnavailable(any(Collection.class));
+    assertTrue(changes.getRemovedTmdbIds().isEmpty());
+  }
+}
@@ -0,0 +1,84 @@
+package community.ddv.domain.movie.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import community.ddv.domain.movie.repostitory.MovieRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MovieTitleAutocompleteTest {
+
+  private final MovieRepository movieRepository = mock(MovieRepository.class);
+  private final MovieTitleAutocomplete autocomplete = new MovieTitleAutocomplete(movieRepository);
+
+  // 인기도 내림차순 제목
+  private void index(String... titles) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < titles.length; i++) {
+      rows.add(new Object[]{(long) i + 1, titles[i], null});
+    }
+    when(movieRepository.findAllTitleEntries()).thenReturn(rows);
+    autocomplete.rebuild();
+  }
+
+  @Test
+  void returnsNullBeforeRebuild() {
+    assertNull(autocomplete.suggest("어"));
+  }
+
+  @Test
+  void suggestsByPrefixInPopularityOrder() {
+    index("어벤져스: 엔드게임", "어바웃 타임", "기생충", "어벤져스");
+
+    assertEquals(List.of("어벤져스: 엔드게임", "어바웃 타임", "어벤져스"), autocomplete.suggest("어"));
+    assertEquals(List.of("어벤져스: 엔드게임", "어벤져스"), autocomplete.suggest("어벤"));
+    assertEquals(List.of("기생충"), autocomplete.suggest("기생충"));
+    assertEquals(List.of(), autocomplete.suggest("없는"));
+  }
+
+  @Test
+  void matchesFromEachWordIgnoringWhitespaceAndCase() {
+    index("어벤져스: 엔드게임", "About Time");
+
+    assertEquals(List.of("어벤져스: 엔드게임"), autocomplete.suggest("엔드"));
+    assertEquals(List.of("어벤져스: 엔드게임"), autocomplete.suggest("어벤져스:엔"));
+    assertEquals(List.of("About Time"), autocomplete.suggest("about t"));
+    assertEquals(List.of("About Time"), autocomplete.suggest("TIME"));
+  }
+
+  @Test
+  void matchesChosungOnlyQuery() {
+    index("어벤져스", "어바웃 타임", "기생충");
+
+    assertEquals(List.of("어벤져스"), autocomplete.suggest("ㅇㅂㅈㅅ"));
+    assertEquals(List.of("어벤져스", "어바웃 타임"), autocomplete.suggest("ㅇㅂ"));
+    assertEquals(List.of("어바웃 타임"), autocomplete.suggest("ㅌㅇ"));
+  }
+
+  @Test
+  void matchesQueryEndingInsideCompressedEdge() {
+    index("인터스텔라");
+
+    assertEquals(List.of("인터스텔라"), autocomplete.suggest("인터스"));
+    assertEquals(List.of(), autocomplete.suggest("인터x"));
+    assertEquals(List.of(), autocomplete.suggest("인터스텔라2"));
+  }
+
+  @Test
+  void keepsOnlyTopFiveByPopularity() {
+    index("영화 1", "영화 2", "영화 3", "영화 4", "영화 5", "영화 6", "영화 7");
+
+    assertEquals(List.of("영화 1", "영화 2", "영화 3", "영화 4", "영화 5"), autocomplete.suggest("영화"));
+    assertEquals(List.of("영화 7"), autocomplete.suggest("영화7"));
+  }
+
+  @Test
+  void convertsHangulToChosung() {
+    assertEquals("ㅇㅂㅈㅅ:ㅇㄷㄱㅇ", MovieTitleAutocomplete.toChosung("어벤져스:엔드게임"));
+    assertEquals("abcㄱ", MovieTitleAutocomplete.toChosung("abc가"));
+  }
+}
@@ -0,0 +1,129 @@
+package community.ddv.domain.movie.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import community.ddv.domain.movie.repostitory.MovieRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MovieTitleIndexTest {
+
+  private final MovieRepository movieRepository = mock(MovieRepository.class);
+  private final MovieTitleIndex movieTitleIndex = new MovieTitleIndex(movieRepository);
+
+  // (tmdbId, 제목, 원제) - 인기도 내림차순
+  private void index(List<Object[]> rows) {
+    when(movieRepository.findAllTitleEntries()).thenReturn(rows);
+    movieTitleIndex.rebuild();
+  }
+
+  private static Object[] movie(long tmdbId, String title, String originalTitle) {
+    return new Object[]{tmdbId, title, originalTitle};
+  }
+
+  @Test
+  void returnsNullBeforeRebuild() {
+    assertNull(movieTitleIndex.search("어벤져스", 0, 10));
+  }
+
+  @Test
+  void matchesShortAndLongQueriesInPopularityOrder() {
+    index(List.of(
+        movie(1L, "어벤져스: 엔드게임", "Avengers: Endgame"),
+        movie(2L, "어벤져스", "The Avengers"),
+        movie(3L, "기생충", "Parasite"),
+        movie(4L, "어바웃 타임", "About Time")));
+
+    assertEquals(List.of(1L, 2L, 4L), movieTitleIndex.search("어", 0, 10).getTmdbIds());
+    assertEquals(List.of(1L, 2L), movieTitleIndex.search("어벤져스", 0, 10).getTmdbIds());
+    assertEquals(List.of(1L), movieTitleIndex.search("엔드게임", 0, 10).getTmdbIds());
+    assertEquals(List.of(3L), movieTitleIndex.search("기생", 0, 10).getTmdbIds());
+    assertEquals(0, movieTitleIndex.search("없는영화", 0, 10).getTotalCount());
+  }
+
+  @Test
+  void ignoresWhitespaceAndCaseAndMatchesOriginalTitle() {
+    index(List.of(
+        movie(1L, "어벤져스: 엔드게임", "Avengers: Endgame"),
+        movie(2L, "어바웃 타임", "About Time")));
+
+    assertEquals(List.of(1L), movieTitleIndex.search("어벤져스:엔드 게임", 0, 10).getTmdbIds());
+    assertEquals(List.of(2L), movieTitleIndex.search("ABOUT TIME", 0, 10).getTmdbIds());
+    assertEquals(List.of(1L), movieTitleIndex.search("endgame", 0, 10).getTmdbIds());
+  }
+
+  @Test
+  void rejectsCandidatesThatHaveEveryTrigramButNotTheQuery() {
+    // "abcxbcd" 는 "abcd" 의 3-gram(abc, bcd)을 모두 갖지만 "abcd" 를 포함하지 않음
+    index(List.of(
+        movie(1L, "abcxbcd", null),
+        movie(2L, "zabcdz", null)));
+
+    assertEquals(List.of(2L), movieTitleIndex.search("abcd", 0, 10).getTmdbIds());
+  }
+
+  @Test
+  void emptyKeywordReturnsEveryMovie() {
+    index(List.of(
+        movie(1L, "가", null),
+        movie(2L, "나", null)));
+
+    MovieTitleIndex.SearchResult result = movieTitleIndex.search(" ", 0, 10);
+    assertEquals(List.of(1L, 2L), result.getTmdbIds());
+    assertEquals(2, result.getTotalCount());
+  }
+
+  @Test
+  void pagesWithOffsetAndLimit() {
+    List<Object[]> rows = new ArrayList<>();
+    for (long id = 1; id <= 25; id++) {
+      rows.add(movie(id, "영화 " + id, null));
+    }
+    index(rows);
+
+    MovieTitleIndex.SearchResult page = movieTitleIndex.search("영화", 20, 10);
+    assertEquals(List.of(21L, 22L, 23L, 24L, 25L), page.getTmdbIds());
+    assertEquals(25, page.getTotalCount());
+    assertEquals(List.of(), movieTitleIndex.search("영화", 30, 10).getTmdbIds());
+  }
+
+  @Test
+  void matchesNaiveContainsOnRandomTitles() {
+    Random random = new Random(42);
+    String alphabet = "abcde ";
+    List<Object[]> rows = new ArrayList<>();
+    List<String> titles = new ArrayList<>();
+    for (long id = 1; id <= 300; id++) {
+      String title = randomText(random, alphabet, 3 + random.nextInt(10));
+      rows.add(movie(id, title, null));
+      titles.add(TitleNormalizer.normalize(title));
+    }
+    index(rows);
+
+    for (int i = 0; i < 200; i++) {
+      String query = randomText(random, alphabet, 1 + random.nextInt(6));
+      String normalized = query.replace(" ", "").toLowerCase(Locale.ROOT);
+      List<Long> expected = new ArrayList<>();
+      for (int doc = 0; doc < titles.size(); doc++) {
+        if (titles.get(doc).contains(normalized)) {
+          expected.add(doc + 1L);
+        }
+      }
+      assertEquals(expected, movieTitleIndex.search(query, 0, Integer.MAX_VALUE).getTmdbIds(), query);
+    }
+  }
+
+  private static String randomText(Random random, String alphabet, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+}
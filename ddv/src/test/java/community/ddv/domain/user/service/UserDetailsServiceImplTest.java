@@ -0,0 +1,87 @@
+package community.ddv.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import community.ddv.domain.user.entity.User;
+import community.ddv.domain.user.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class UserDetailsServiceImplTest {
+
+  private static final String EMAIL = "user@test.com";
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository);
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static User user(String nickname) {
+    return User.builder().id(1L).email(EMAIL).password("pw").nickname(nickname).build();
+  }
+
+  @Test
+  void cachesLoadedUser() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("a")));
+
+    userDetailsService.loadUserByUsername(EMAIL);
+    userDetailsService.loadUserByUsername(EMAIL);
+
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void evictsOnlyAfterCommitInsideTransaction() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("a")));
+    userDetailsService.loadUserByUsername(EMAIL);
+
+    TransactionSynchronizationManager.initSynchronization();
+    userDetailsService.evictUser(EMAIL);
+
+    // 커밋 전에는 그대로 캐시에서 조회
+    userDetailsService.loadUserByUsername(EMAIL);
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    userDetailsService.loadUserByUsername(EMAIL);
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void doesNotKeepValueLoadedWhileEvicting() {
+    // 조회 도중 다른 요청의 커밋 후 삭제가 일어남 → 조회한 옛 값은 캐시에 남지 않아야 함
+    when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+      userDetailsService.evictUser(EMAIL);
+      return Optional.of(user("old"));
+    }).thenReturn(Optional.of(user("new")));
+
+    userDetailsService.loadUserByUsername(EMAIL);
+    userDetailsService.loadUserByUsername(EMAIL);
+
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void evictsImmediatelyWithoutTransaction() {
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("a")));
+    userDetailsService.loadUserByUsername(EMAIL);
+
+    userDetailsService.evictUser(EMAIL);
+    userDetailsService.loadUserByUsername(EMAIL);
+
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+    assertEquals(EMAIL, userDetailsService.loadUserByUsername(EMAIL).getUsername());
+  }
+}
@@ -0,0 +1,84 @@
+package community.ddv.global.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import community.ddv.domain.user.constant.Role;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtFilterTest {
+
+  private static final String EMAIL = "user@test.com";
+
+  private final JwtProvider jwtProvider = spy(new JwtProvider());
+  private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+  private final TokenBlacklist tokenBlacklist = mock(TokenBlacklist.class);
+  private final JwtFilter jwtFilter = new JwtFilter(jwtProvider, userDetailsService, tokenBlacklist);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(jwtProvider, "secretKey", JwtProviderTest.SECRET);
+    jwtProvider.init();
+    when(userDetailsService.loadUserByUsername(EMAIL))
+        .thenReturn(User.withUsername(EMAIL).password("pw").roles("USER").build());
+  }
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private static MockHttpServletRequest request(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(JwtProvider.TOKEN_HEADER, JwtProvider.TOKEN_PREFIX + token);
+    return request;
+  }
+
+  @Test
+  void rejectsRevokedTokenBeforeConsultingCache() throws Exception {
+    String token = jwtProvider.generateAccessToken(EMAIL, Role.USER);
+    // 로그아웃 전 요청으로 검증 결과가 캐시에 올라가 있는 상태
+    jwtFilter.doFilterInternal(request(token), new MockHttpServletResponse(), new MockFilterChain());
+    SecurityContextHolder.clearContext();
+
+    when(tokenBlacklist.isRevoked(token)).thenReturn(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    jwtFilter.doFilterInternal(request(token), response, chain);
+
+    assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+    assertNull(chain.getRequest());
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    // 캐시 조회 전에 거부되므로 verify 는 첫 요청에서 한 번만 호출
+    verify(jwtProvider).verify(any(), anyString());
+  }
+
+  @Test
+  void authenticatesValidToken() throws Exception {
+    String token = jwtProvider.generateAccessToken(EMAIL, Role.USER);
+    MockFilterChain chain = new MockFilterChain();
+
+    jwtFilter.doFilterInternal(request(token), new MockHttpServletResponse(), chain);
+
+    assertNotNull(chain.getRequest());
+    assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+    verify(tokenBlacklist).isRevoked(token);
+  }
+}
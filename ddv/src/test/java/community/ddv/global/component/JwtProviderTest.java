@@ -0,0 +1,53 @@
+package community.ddv.global.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import community.ddv.domain.user.constant.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtProviderTest {
+
+  static final String SECRET = "test-secret-key-for-jwt-provider-0123456789";
+  private static final String EMAIL = "user@test.com";
+
+  private final JwtProvider jwtProvider = new JwtProvider();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(jwtProvider, "secretKey", SECRET);
+    jwtProvider.init();
+  }
+
+  @Test
+  void servesCachedTokenToLaterRequests() {
+    String token = jwtProvider.generateAccessToken(EMAIL, Role.USER);
+
+    VerifiedToken first = jwtProvider.verify(new MockHttpServletRequest(), token);
+    VerifiedToken second = jwtProvider.verify(new MockHttpServletRequest(), token);
+
+    assertSame(first, second);
+    assertEquals(EMAIL, second.getEmail());
+    assertEquals(Role.USER, second.getRole());
+  }
+
+  @Test
+  void doesNotServeCachedTokenAfterExpiration() throws InterruptedException {
+    // exp 는 초 단위로 잘리므로 1.5초 뒤 만료 → 실제로는 0.5 ~ 1.5초 안에 만료
+    String token = jwtProvider.generateToken(EMAIL, Role.USER, 1500);
+    VerifiedToken verifiedToken = jwtProvider.verify(new MockHttpServletRequest(), token);
+
+    while (System.currentTimeMillis() <= verifiedToken.getExpiration()) {
+      Thread.sleep(50);
+    }
+
+    // 캐시에 남아 있던 결과가 아니라 다시 검증해 만료 예외가 나야 함
+    assertThrows(ExpiredJwtException.class,
+        () -> jwtProvider.verify(new MockHttpServletRequest(), token));
+  }
+}
@@ -0,0 +1,64 @@
+package community.ddv.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AfterCommitTest {
+
+  private final List<String> calls = new ArrayList<>();
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static void complete(int status) {
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    if (status == TransactionSynchronization.STATUS_COMMITTED) {
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+    synchronizations.forEach(sync -> sync.afterCompletion(status));
+  }
+
+  @Test
+  void runsImmediatelyWithoutTransaction() {
+    AfterCommit.run(() -> calls.add("commit"));
+    AfterCommit.run(() -> calls.add("commit2"), () -> calls.add("rollback"));
+    AfterCommit.onRollback(() -> calls.add("rollback2"));
+
+    assertEquals(List.of("commit", "commit2"), calls);
+  }
+
+  @Test
+  void runsOnlyCommitActionsAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    AfterCommit.run(() -> calls.add("commit"));
+    AfterCommit.run(() -> calls.add("commit2"), () -> calls.add("rollback"));
+    AfterCommit.onRollback(() -> calls.add("rollback2"));
+    assertEquals(List.of(), calls);
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    assertEquals(List.of("commit", "commit2"), calls);
+  }
+
+  @Test
+  void runsOnlyRollbackActionsAfterRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+    AfterCommit.run(() -> calls.add("commit"));
+    AfterCommit.run(() -> calls.add("commit2"), () -> calls.add("rollback"));
+    AfterCommit.onRollback(() -> calls.add("rollback2"));
+
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    assertEquals(List.of("rollback", "rollback2"), calls);
+  }
+}
@@ -0,0 +1,69 @@
+package community.ddv.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void containsEveryAddedDigest() {
+    BloomFilter filter = new BloomFilter(1000, 0.01);
+    List<byte[]> added = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      byte[] digest = TokenHash.sha256("token-" + i);
+      filter.add(digest);
+      added.add(digest);
+    }
+
+    for (byte[] digest : added) {
+      assertTrue(filter.mightContain(digest));
+    }
+  }
+
+  @Test
+  void emptyFilterContainsNothing() {
+    BloomFilter filter = new BloomFilter(1000, 0.01);
+
+    for (int i = 0; i < 100; i++) {
+      assertFalse(filter.mightContain(TokenHash.sha256("token-" + i)));
+    }
+  }
+
+  @Test
+  void falsePositiveRateStaysNearTarget() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.add(TokenHash.sha256("revoked-" + i));
+    }
+
+    int falsePositives = 0;
+    int trials = 100_000;
+    for (int i = 0; i < trials; i++) {
+      if (filter.mightContain(TokenHash.sha256("other-" + i))) {
+        falsePositives++;
+      }
+    }
+
+    // 기대 오탐률 1% (여유를 두고 2% 미만이면 통과)
+    assertTrue(falsePositives < trials * 0.02, "falsePositives = " + falsePositives);
+  }
+
+  @Test
+  void keepsAddedDigestsBeyondExpectedInsertions() {
+    BloomFilter filter = new BloomFilter(10, 0.01);
+    List<byte[]> added = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      byte[] digest = TokenHash.sha256("token-" + i);
+      filter.add(digest);
+      added.add(digest);
+    }
+
+    for (byte[] digest : added) {
+      assertTrue(filter.mightContain(digest));
+    }
+  }
+}
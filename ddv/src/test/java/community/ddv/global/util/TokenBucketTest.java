@@ -0,0 +1,82 @@
+package community.ddv.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  @Test
+  void rejectsNonPositiveRateOrCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(-1, 1));
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+  }
+
+  @Test
+  void allowsBurstUpToCapacityWithoutWaiting() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(1, 20);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 20; i++) {
+      bucket.acquire();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertTrue(elapsedMillis < 500, "elapsed = " + elapsedMillis + "ms");
+  }
+
+  @Test
+  void throttlesToRateAfterBurst() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(50, 1);
+    bucket.acquire(); // 모아둔 토큰 소진
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 10; i++) {
+      bucket.acquire();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // 초당 50개 → 10개에 약 200ms
+    assertTrue(elapsedMillis >= 180, "elapsed = " + elapsedMillis + "ms");
+    assertTrue(elapsedMillis < 2000, "elapsed = " + elapsedMillis + "ms");
+  }
+
+  @Test
+  void sharesRateAcrossThreads() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(100, 1);
+    bucket.acquire();
+    AtomicInteger acquired = new AtomicInteger();
+
+    List<Thread> threads = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        try {
+          for (int i = 0; i < 10; i++) {
+            bucket.acquire();
+            acquired.incrementAndGet();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // 스레드 4개가 합쳐서 40개 → 초당 100개 기준 약 400ms
+    assertEquals(40, acquired.get());
+    assertTrue(elapsedMillis >= 360, "elapsed = " + elapsedMillis + "ms");
+  }
+}